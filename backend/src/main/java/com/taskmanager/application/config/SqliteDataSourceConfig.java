@@ -0,0 +1,89 @@
+package com.taskmanager.application.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * SQLite-specific datasource, enabled with {@code taskmanager.sqlite.enabled=true}.
+ *
+ * SQLite allows a single writer, so writes get a pool of exactly one connection
+ * and queue for it in Hikari instead of failing with SQLITE_BUSY. Reads use a
+ * separate pool of {@code query_only} connections which, thanks to WAL, are not
+ * blocked by the writer. {@code @Transactional(readOnly = true)} work is routed
+ * to the reader pool by {@link LazyConnectionDataSourceProxy}, which only picks
+ * the physical connection once the transaction's read-only flag is known.
+ * Every connection is opened with the tuned pragmas below.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskmanager.sqlite", name = "enabled", havingValue = "true")
+public class SqliteDataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqliteDataSourceConfig.class);
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Bean
+    public HikariDataSource sqliteWriterDataSource(TaskManagerSqliteProperties properties) {
+        HikariConfig config = baseConfig(properties, "sqlite-writer");
+        config.setMaximumPoolSize(1);
+        config.setMinimumIdle(1);
+        // journal_mode is persistent; set it from the writer, which opens the database first
+        config.addDataSourceProperty("journal_mode", "WAL");
+        // Only takes effect on a new, empty database; existing ones keep their mode until a full VACUUM
+        config.setConnectionInitSql("PRAGMA auto_vacuum = INCREMENTAL");
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Takes the writer as a parameter so the writer has created the database and
+     * switched it to WAL before any reader connects.
+     */
+    @Bean
+    public HikariDataSource sqliteReaderDataSource(TaskManagerSqliteProperties properties,
+            @Qualifier("sqliteWriterDataSource") HikariDataSource writer) {
+        HikariConfig config = baseConfig(properties, "sqlite-reader");
+        config.setMaximumPoolSize(Math.max(1, properties.getReaderPoolSize()));
+        config.setMinimumIdle(1);
+        config.setConnectionInitSql("PRAGMA query_only = true");
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("sqliteWriterDataSource") HikariDataSource writer,
+            @Qualifier("sqliteReaderDataSource") HikariDataSource reader) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writer);
+        dataSource.setReadOnlyDataSource(reader);
+        logger.info("SQLite datasource: 1 writer connection, up to {} query_only reader connection(s)",
+                reader.getMaximumPoolSize());
+        return dataSource;
+    }
+
+    private HikariConfig baseConfig(TaskManagerSqliteProperties properties, String poolName) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setDriverClassName("org.sqlite.JDBC");
+        config.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        // Read by sqlite-jdbc as pragmas when each connection is opened
+        config.addDataSourceProperty("synchronous", properties.getSynchronous());
+        config.addDataSourceProperty("busy_timeout", String.valueOf(properties.getBusyTimeout().toMillis()));
+        config.addDataSourceProperty("cache_size", String.valueOf(properties.getCacheSize()));
+        config.addDataSourceProperty("mmap_size", String.valueOf(properties.getMmapSize()));
+        config.addDataSourceProperty("temp_store", properties.getTempStore());
+        return config;
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.application.config;
+
+import com.taskmanager.application.service.SqliteWriteQueue;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Routes the write transactions of the task, bulk task, list and team services through
+ * {@link SqliteWriteQueue}. It runs before the transaction interceptor, so the
+ * service's own {@code @Transactional} joins the batch transaction opened by the
+ * writer thread. Read-only methods are left untouched.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "taskmanager.sqlite.write-queue", name = "enabled", havingValue = "true")
+public class SqliteWriteQueueAspect {
+
+    @Autowired
+    private SqliteWriteQueue writeQueue;
+
+    @Around("(within(com.taskmanager.application.service.TaskService) "
+            + "|| within(com.taskmanager.application.service.TaskBulkService) "
+            + "|| within(com.taskmanager.application.service.ListService) "
+            + "|| within(com.taskmanager.application.service.TeamService)) "
+            + "&& @annotation(transactional)")
+    public Object routeWrite(ProceedingJoinPoint joinPoint, Transactional transactional) throws Throwable {
+        if (transactional.readOnly()) {
+            return joinPoint.proceed();
+        }
+        return writeQueue.submit(joinPoint::proceed);
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskmanager.application.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "taskmanager.retention")
+public class TaskManagerRetentionProperties {
+
+    private boolean enabled = true;
+
+    private int batchSize = 500;
+
+    private Duration pauseBetweenBatches = Duration.ofMillis(50);
+
+    private Duration authSession = Duration.ofDays(30);
+
+    private Duration refreshToken = Duration.ofDays(7);
+
+    private Duration respondedInvitation = Duration.ofDays(30);
+
+    private Duration pendingInvitation = Duration.ofDays(90);
+
+    private boolean vacuum = true;
+
+    private int vacuumPages = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPauseBetweenBatches() {
+        return pauseBetweenBatches;
+    }
+
+    public void setPauseBetweenBatches(Duration pauseBetweenBatches) {
+        this.pauseBetweenBatches = pauseBetweenBatches;
+    }
+
+    public Duration getAuthSession() {
+        return authSession;
+    }
+
+    public void setAuthSession(Duration authSession) {
+        this.authSession = authSession;
+    }
+
+    public Duration getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(Duration refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public Duration getRespondedInvitation() {
+        return respondedInvitation;
+    }
+
+    public void setRespondedInvitation(Duration respondedInvitation) {
+        this.respondedInvitation = respondedInvitation;
+    }
+
+    public Duration getPendingInvitation() {
+        return pendingInvitation;
+    }
+
+    public void setPendingInvitation(Duration pendingInvitation) {
+        this.pendingInvitation = pendingInvitation;
+    }
+
+    public boolean isVacuum() {
+        return vacuum;
+    }
+
+    public void setVacuum(boolean vacuum) {
+        this.vacuum = vacuum;
+    }
+
+    public int getVacuumPages() {
+        return vacuumPages;
+    }
+
+    public void setVacuumPages(int vacuumPages) {
+        this.vacuumPages = vacuumPages;
+    }
+}
@@ -21,6 +21,12 @@ public class TaskManagerSecurityProperties {
 
     private final Csrf csrf = new Csrf();
 
+    private final SessionCache sessionCache = new SessionCache();
+
+    private final PasswordHashing passwordHashing = new PasswordHashing();
+
+    private final LoginThrottle loginThrottle = new LoginThrottle();
+
     public Cors getCors() {
         return cors;
     }
@@ -41,6 +47,18 @@ public class TaskManagerSecurityProperties {
         return csrf;
     }
 
+    public SessionCache getSessionCache() {
+        return sessionCache;
+    }
+
+    public PasswordHashing getPasswordHashing() {
+        return passwordHashing;
+    }
+
+    public LoginThrottle getLoginThrottle() {
+        return loginThrottle;
+    }
+
     public static class Cors {
 
         private List<String> allowedOrigins = new ArrayList<>(List.of("http://localhost:3000"));
@@ -131,6 +149,8 @@ public class TaskManagerSecurityProperties {
 
         private Duration ttl = Duration.ofMinutes(10);
 
+        private boolean stateless;
+
         public Duration getTtl() {
             return ttl;
         }
@@ -138,6 +158,14 @@ public class TaskManagerSecurityProperties {
         public void setTtl(Duration ttl) {
             this.ttl = ttl;
         }
+
+        public boolean isStateless() {
+            return stateless;
+        }
+
+        public void setStateless(boolean stateless) {
+            this.stateless = stateless;
+        }
     }
 
     public static class RefreshToken {
@@ -196,4 +224,173 @@ public class TaskManagerSecurityProperties {
         }
     }
 
+    public static class SessionCache {
+
+        private boolean enabled = true;
+
+        private Duration ttl = Duration.ofSeconds(30);
+
+        private long maximumSize = 10000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    public static class PasswordHashing {
+
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        private int queueCapacity = 64;
+
+        private Duration timeout = Duration.ofSeconds(10);
+
+        private int cost = 12;
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        public void setCost(int cost) {
+            this.cost = cost;
+        }
+    }
+
+    public static class LoginThrottle {
+
+        private boolean enabled = true;
+
+        private Duration window = Duration.ofMinutes(15);
+
+        private long maximumKeys = 100000;
+
+        private int usernameFreeAttempts = 5;
+
+        private int usernameLockoutAttempts = 20;
+
+        private int ipFreeAttempts = 20;
+
+        private int ipLockoutAttempts = 100;
+
+        private Duration baseDelay = Duration.ofSeconds(1);
+
+        private Duration maxDelay = Duration.ofMinutes(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public long getMaximumKeys() {
+            return maximumKeys;
+        }
+
+        public void setMaximumKeys(long maximumKeys) {
+            this.maximumKeys = maximumKeys;
+        }
+
+        public int getUsernameFreeAttempts() {
+            return usernameFreeAttempts;
+        }
+
+        public void setUsernameFreeAttempts(int usernameFreeAttempts) {
+            this.usernameFreeAttempts = usernameFreeAttempts;
+        }
+
+        public int getUsernameLockoutAttempts() {
+            return usernameLockoutAttempts;
+        }
+
+        public void setUsernameLockoutAttempts(int usernameLockoutAttempts) {
+            this.usernameLockoutAttempts = usernameLockoutAttempts;
+        }
+
+        public int getIpFreeAttempts() {
+            return ipFreeAttempts;
+        }
+
+        public void setIpFreeAttempts(int ipFreeAttempts) {
+            this.ipFreeAttempts = ipFreeAttempts;
+        }
+
+        public int getIpLockoutAttempts() {
+            return ipLockoutAttempts;
+        }
+
+        public void setIpLockoutAttempts(int ipLockoutAttempts) {
+            this.ipLockoutAttempts = ipLockoutAttempts;
+        }
+
+        public Duration getBaseDelay() {
+            return baseDelay;
+        }
+
+        public void setBaseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+    }
+
 }
@@ -0,0 +1,140 @@
+package com.taskmanager.application.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "taskmanager.sqlite")
+public class TaskManagerSqliteProperties {
+
+    private boolean enabled;
+
+    private int readerPoolSize = 4;
+
+    private Duration connectionTimeout = Duration.ofSeconds(30);
+
+    private Duration busyTimeout = Duration.ofSeconds(5);
+
+    private String synchronous = "NORMAL";
+
+    private int cacheSize = -20000;
+
+    private long mmapSize = 268435456L;
+
+    private String tempStore = "MEMORY";
+
+    private final WriteQueue writeQueue = new WriteQueue();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getReaderPoolSize() {
+        return readerPoolSize;
+    }
+
+    public void setReaderPoolSize(int readerPoolSize) {
+        this.readerPoolSize = readerPoolSize;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public Duration getBusyTimeout() {
+        return busyTimeout;
+    }
+
+    public void setBusyTimeout(Duration busyTimeout) {
+        this.busyTimeout = busyTimeout;
+    }
+
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    public void setSynchronous(String synchronous) {
+        this.synchronous = synchronous;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public long getMmapSize() {
+        return mmapSize;
+    }
+
+    public void setMmapSize(long mmapSize) {
+        this.mmapSize = mmapSize;
+    }
+
+    public String getTempStore() {
+        return tempStore;
+    }
+
+    public void setTempStore(String tempStore) {
+        this.tempStore = tempStore;
+    }
+
+    public WriteQueue getWriteQueue() {
+        return writeQueue;
+    }
+
+    public static class WriteQueue {
+
+        private boolean enabled;
+
+        private int maxBatchSize = 64;
+
+        private int capacity = 1000;
+
+        private Duration timeout = Duration.ofSeconds(30);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
+}
@@ -95,6 +95,8 @@ public class WebSecurityConfig {
                 -> authorizeRequests
                         .requestMatchers("/auth/**", "/oauth2/**", "/health", "/error", "/api/config", "/api/session/me", "/api/session/csrf", "/api/session/refresh", "/api/session/logout").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // Actuator endpoints expose internals and run maintenance (retention purge)
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
         );
 
@@ -2,6 +2,7 @@ package com.taskmanager.application.controller;
 
 import com.taskmanager.application.model.exceptions.ResourceNotFoundException;
 import com.taskmanager.application.service.AdminService;
+import com.taskmanager.application.service.RetentionService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.Map;
 
+import com.taskmanager.application.model.dto.AdminUserDTO;
 import com.taskmanager.application.model.dto.PagedResponseDTO;
 
 @RestController
@@ -27,15 +29,18 @@ public class AdminRestController {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private RetentionService retentionService;
+
     // ===== USER MANAGEMENT =====
     @GetMapping("/users")
-    public ResponseEntity<List<Map<String, Object>>> searchUsers(@RequestParam(required = false) String query) {
+    public ResponseEntity<List<AdminUserDTO>> searchUsers(@RequestParam(required = false) String query) {
         logger.info("Admin searching users, query: {}", query);
         return ResponseEntity.ok(adminService.searchUsers(query));
     }
 
     @GetMapping("/users/paged")
-    public ResponseEntity<PagedResponseDTO<Map<String, Object>>> searchUsersPaged(
+    public ResponseEntity<PagedResponseDTO<AdminUserDTO>> searchUsersPaged(
             @RequestParam(required = false) String query,
             @PageableDefault(size = 50) Pageable pageable) {
         logger.info("Admin searching users paged, query: {}", query);
@@ -43,15 +48,29 @@ public class AdminRestController {
     }
 
     @GetMapping("/users/{userId}")
-    public ResponseEntity<Map<String, Object>> getUserById(@PathVariable Long userId) throws ResourceNotFoundException {
+    public ResponseEntity<AdminUserDTO> getUserById(@PathVariable Long userId) throws ResourceNotFoundException {
         return ResponseEntity.ok(adminService.getUserById(userId));
     }
 
     @PostMapping("/users/{userId}/toggle-block")
-    public ResponseEntity<Map<String, Object>> toggleUserBlock(@PathVariable Long userId) throws ResourceNotFoundException {
+    public ResponseEntity<AdminUserDTO> toggleUserBlock(@PathVariable Long userId) throws ResourceNotFoundException {
         return ResponseEntity.ok(adminService.toggleUserBlock(userId));
     }
 
+    @PostMapping("/sessions/revoke-all")
+    public ResponseEntity<Map<String, Object>> revokeAllSessions() {
+        logger.info("Admin revoking all sessions");
+        return ResponseEntity.ok(adminService.revokeAllSessions());
+    }
+
+    // ===== MAINTENANCE =====
+    // Blocks all writes while SQLite rewrites the file; see RetentionService#fullVacuum
+    @PostMapping("/maintenance/full-vacuum")
+    public ResponseEntity<Map<String, Object>> fullVacuum() {
+        logger.info("Admin requested a full VACUUM");
+        return ResponseEntity.ok(retentionService.fullVacuum());
+    }
+
     // ===== FEATURE FLAGS =====
     @GetMapping("/features")
     public ResponseEntity<Map<String, Boolean>> getFeatureFlags() {
@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/auth")
@@ -43,6 +44,8 @@ public class AuthRestController {
             SessionDTO session = sessionService.login(login, request, response);
             csrfService.rotateToken(request, response);
             return ResponseEntity.ok(session);
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             logger.warn("Login failed for user {}: {}", login.getUsername(), e.getMessage());
             java.util.HashMap<String, String> errorBody = new java.util.HashMap<>();
@@ -0,0 +1,38 @@
+package com.taskmanager.application.controller;
+
+import com.taskmanager.application.model.dto.JobDTO;
+import com.taskmanager.application.model.exceptions.NotPermissionException;
+import com.taskmanager.application.model.exceptions.ResourceNotFoundException;
+import com.taskmanager.application.service.BackgroundJobService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobRestController {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobRestController.class);
+
+    @Autowired
+    private BackgroundJobService backgroundJobService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<JobDTO> getJob(@PathVariable Long id) throws ResourceNotFoundException, NotPermissionException {
+        logger.debug("Retrieving job with ID: {}", id);
+        return ResponseEntity.ok(backgroundJobService.getJob(id));
+    }
+
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<JobDTO> cancelJob(@PathVariable Long id) throws ResourceNotFoundException, NotPermissionException {
+        logger.info("Cancelling job with ID: {}", id);
+        return ResponseEntity.ok(backgroundJobService.cancel(id));
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskmanager.application.controller;
 
+import java.net.URI;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -17,6 +18,7 @@ import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import com.taskmanager.application.model.dto.JobDTO;
 import com.taskmanager.application.model.dto.ListTMDTO;
 import com.taskmanager.application.model.dto.PagedResponseDTO;
 import com.taskmanager.application.model.exceptions.NotPermissionException;
@@ -96,11 +98,21 @@ public class ListRestController {
         }
     }
 
+    /**
+     * With {@code async=true} the list is deleted by a background job: the response
+     * is 202 Accepted with the job, whose progress is at {@code /api/jobs/{id}}.
+     */
     @DeleteMapping("/delete/{id}")
-    public ResponseEntity<String> deleteList(@PathVariable Long id) throws NotPermissionException, ResourceNotFoundException {
+    public ResponseEntity<?> deleteList(@PathVariable Long id, @RequestParam(defaultValue = "false") boolean async)
+            throws NotPermissionException, ResourceNotFoundException {
         logger.info("Deleting list with ID: {}", id);
 
         try {
+            if (async) {
+                JobDTO job = listService.requestListDeletion(id);
+                logger.info("Queued deletion of list with ID: {} as job {}", id, job.getId());
+                return ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job);
+            }
             listService.deleteListById(id);
             logger.info("Successfully deleted list with ID: {}", id);
             return ResponseEntity.ok().body("List deleted successfully");
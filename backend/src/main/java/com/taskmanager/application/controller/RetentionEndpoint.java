@@ -0,0 +1,37 @@
+package com.taskmanager.application.controller;
+
+import com.taskmanager.application.service.RetentionService;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/retention}) showing the last retention purge.
+ * A POST runs the purge immediately.
+ */
+@Component
+@Endpoint(id = "retention")
+public class RetentionEndpoint {
+
+    @Autowired
+    private RetentionService retentionService;
+
+    @ReadOperation
+    public Map<String, Object> lastRun() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("running", retentionService.isRunning());
+        response.put("lastRun", retentionService.getLastRun());
+        return response;
+    }
+
+    @WriteOperation
+    public RetentionService.RetentionRun purge() {
+        return retentionService.purge();
+    }
+}
@@ -1,11 +1,14 @@
 package com.taskmanager.application.controller;
 
 import com.taskmanager.application.model.dto.ActionTaskDTO;
+import com.taskmanager.application.model.dto.BulkTaskRequestDTO;
+import com.taskmanager.application.model.dto.BulkTaskResultDTO;
 import com.taskmanager.application.model.dto.EventTaskDTO;
 import com.taskmanager.application.model.dto.TaskDTO;
 import com.taskmanager.application.model.entities.ActionTask;
 import com.taskmanager.application.model.exceptions.NotPermissionException;
 import com.taskmanager.application.model.exceptions.ResourceNotFoundException;
+import com.taskmanager.application.service.TaskBulkService;
 import com.taskmanager.application.service.TaskService;
 
 import jakarta.validation.Valid;
@@ -27,7 +30,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.taskmanager.application.model.dto.CursorPageDTO;
 import com.taskmanager.application.model.dto.PagedResponseDTO;
+import com.taskmanager.application.model.dto.TaskListItemDTO;
 import com.taskmanager.application.model.dto.TaskResumeDTO;
 import com.taskmanager.application.model.dto.TaskSummaryDTO;
 
@@ -40,6 +45,9 @@ public class TaskRestController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskBulkService taskBulkService;
+
     @PostMapping("/create")
     public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody TaskDTO task) { //TO-DO: All ResponseEntity change and put correctly messages
         logger.info("Creating new task: {}", task.getNameOfTask());
@@ -55,11 +63,11 @@ public class TaskRestController {
     }
 
     @GetMapping("/tasks")
-    public ResponseEntity<List<TaskDTO>> getAllTasksForUser() {
+    public ResponseEntity<List<TaskListItemDTO>> getAllTasksForUser() {
         logger.debug("Retrieving all tasks for logged user");
 
         try {
-            List<TaskDTO> tasks = taskService.findAllTasksForLoggedUser();
+            List<TaskListItemDTO> tasks = taskService.findAllTasksForLoggedUser();
             logger.debug("Retrieved {} tasks for logged user", tasks.size());
             return ResponseEntity.ok().body(tasks); //TO-DO: All ResponseEntity change and put correctly messages
         } catch (Exception e) {
@@ -69,7 +77,7 @@ public class TaskRestController {
     }
 
     @GetMapping("/tasks/paged")
-    public ResponseEntity<PagedResponseDTO<TaskDTO>> getAllTasksForUserPaged(
+    public ResponseEntity<PagedResponseDTO<TaskListItemDTO>> getAllTasksForUserPaged(
             @RequestParam(required = false) String search,
             @PageableDefault(size = 50) Pageable pageable) {
         if (search != null && !search.trim().isEmpty()) {
@@ -80,6 +88,16 @@ public class TaskRestController {
         return ResponseEntity.ok(PagedResponseDTO.from(taskService.findAllTasksForLoggedUser(pageable)));
     }
 
+    @GetMapping("/tasks/cursor")
+    public ResponseEntity<CursorPageDTO<TaskListItemDTO>> getTasksForUserByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        logger.debug("Retrieving tasks for logged user by cursor, size: {}", size);
+        CursorPageDTO.Cursor after = cursor != null ? CursorPageDTO.Cursor.decode(cursor) : null;
+        return ResponseEntity.ok(CursorPageDTO.from(taskService.findTasksForLoggedUser(after, size),
+                task -> new CursorPageDTO.Cursor(task.getCreationDate(), task.getId())));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id) throws ResourceNotFoundException, NotPermissionException { //TO-DO: Change the expcetion to a custom exception
         logger.debug("Retrieving task by ID: {}", id);
@@ -131,6 +149,13 @@ public class TaskRestController {
         }
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTaskResultDTO> bulkUpdateTasks(@Valid @RequestBody BulkTaskRequestDTO request)
+            throws ResourceNotFoundException, NotPermissionException {
+        logger.info("Bulk {} requested for {} tasks", request.getOperation(), request.getTaskIds().size());
+        return ResponseEntity.ok(taskBulkService.apply(request));
+    }
+
     @GetMapping("/events/get")
     public ResponseEntity<List<EventTaskDTO>> getAllEventsForUser() {
         logger.debug("Retrieving all events for logged user");
@@ -192,6 +217,18 @@ public class TaskRestController {
         return ResponseEntity.ok(PagedResponseDTO.from(taskService.getAllActionsForTask(taskId, pageable).map(ActionTaskDTO::fromEntity)));
     }
 
+    @GetMapping("/{taskId}/actions/cursor")
+    public ResponseEntity<CursorPageDTO<ActionTaskDTO>> getActionsForTaskByCursor(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) throws ResourceNotFoundException, NotPermissionException {
+        logger.debug("Retrieving actions for task with ID: {} by cursor, size: {}", taskId, size);
+        CursorPageDTO.Cursor after = cursor != null ? CursorPageDTO.Cursor.decode(cursor) : null;
+        return ResponseEntity.ok(CursorPageDTO.from(
+                taskService.getActionsForTask(taskId, after, size).map(ActionTaskDTO::fromEntity),
+                action -> new CursorPageDTO.Cursor(action.getActionDate(), action.getId())));
+    }
+
     @PutMapping("/{taskId}/actions/{actionId}")
     public ResponseEntity<ActionTaskDTO> updateActionTask(@PathVariable Long taskId, @PathVariable Long actionId,
             @Valid @RequestBody ActionTaskDTO actionTaskDTO) throws ResourceNotFoundException, NotPermissionException {
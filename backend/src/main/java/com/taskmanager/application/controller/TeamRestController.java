@@ -1,8 +1,11 @@
 package com.taskmanager.application.controller;
 
+import com.taskmanager.application.model.dto.CursorPageDTO;
+import com.taskmanager.application.model.dto.JobDTO;
 import com.taskmanager.application.model.dto.PagedResponseDTO;
 import com.taskmanager.application.model.dto.TaskAssignmentHistoryDTO;
 import com.taskmanager.application.model.dto.TaskDTO;
+import com.taskmanager.application.model.dto.TaskListItemDTO;
 import com.taskmanager.application.model.dto.TeamDashboardDTO;
 import com.taskmanager.application.model.dto.TeamDTO;
 import com.taskmanager.application.model.dto.TeamInvitationDTO;
@@ -32,6 +35,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
@@ -87,9 +91,19 @@ public class TeamRestController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * With {@code async=true} the team is deleted by a background job: the response
+     * is 202 Accepted with the job, whose progress is at {@code /api/jobs/{id}}.
+     */
     @DeleteMapping("/{teamId}")
-    public ResponseEntity<String> deleteTeam(@PathVariable Long teamId)
+    public ResponseEntity<?> deleteTeam(@PathVariable Long teamId,
+            @RequestParam(defaultValue = "false") boolean async)
             throws ResourceNotFoundException, NotPermissionException {
+        if (async) {
+            logger.info("Queueing deletion of team with ID: {}", teamId);
+            JobDTO job = teamService.requestTeamDeletion(teamId);
+            return ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job);
+        }
         logger.info("Deleting team with ID: {}", teamId);
         teamService.deleteTeam(teamId);
         return ResponseEntity.ok("Team deleted successfully");
@@ -159,7 +173,7 @@ public class TeamRestController {
 
     // ===== FILTERED TASKS =====
     @GetMapping("/{teamId}/tasks")
-    public ResponseEntity<List<TaskDTO>> getTeamTasks(
+    public ResponseEntity<List<TaskListItemDTO>> getTeamTasks(
             @PathVariable Long teamId,
             @RequestParam(required = false) String member,
             @RequestParam(required = false) StateTask state,
@@ -167,15 +181,15 @@ public class TeamRestController {
             throws ResourceNotFoundException, NotPermissionException {
         logger.debug("Retrieving filtered tasks for team {}", teamId);
         if (member != null || state != null || priority != null) {
-            List<TaskDTO> tasks = teamService.getTeamTasksFiltered(teamId, member, state, priority);
+            List<TaskListItemDTO> tasks = teamService.getTeamTasksFiltered(teamId, member, state, priority);
             return ResponseEntity.ok(tasks);
         }
-        List<TaskDTO> tasks = teamService.getTeamTasks(teamId);
+        List<TaskListItemDTO> tasks = teamService.getTeamTasks(teamId);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/{teamId}/tasks/paged")
-    public ResponseEntity<PagedResponseDTO<TaskDTO>> getTeamTasksPaged(
+    public ResponseEntity<PagedResponseDTO<TaskListItemDTO>> getTeamTasksPaged(
             @PathVariable Long teamId,
             @RequestParam(required = false) String member,
             @RequestParam(required = false) StateTask state,
@@ -207,6 +221,18 @@ public class TeamRestController {
         return ResponseEntity.ok(PagedResponseDTO.from(teamService.getAssignmentHistory(teamId, pageable)));
     }
 
+    @GetMapping("/{teamId}/assignment-history/cursor")
+    public ResponseEntity<CursorPageDTO<TaskAssignmentHistoryDTO>> getAssignmentHistoryByCursor(
+            @PathVariable Long teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size)
+            throws ResourceNotFoundException, NotPermissionException {
+        logger.debug("Retrieving assignment history for team {} by cursor, size: {}", teamId, size);
+        CursorPageDTO.Cursor after = cursor != null ? CursorPageDTO.Cursor.decode(cursor) : null;
+        return ResponseEntity.ok(CursorPageDTO.from(teamService.getAssignmentHistory(teamId, after, size),
+                history -> new CursorPageDTO.Cursor(history.getChangedDate(), history.getId())));
+    }
+
     // ===== INVITATIONS =====
     @PostMapping("/{teamId}/invitations")
     public ResponseEntity<TeamInvitationDTO> createInvitation(@PathVariable Long teamId,
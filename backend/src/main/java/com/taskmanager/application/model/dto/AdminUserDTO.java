@@ -0,0 +1,125 @@
+package com.taskmanager.application.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskmanager.application.model.entities.User;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * User row of the admin panel, with how many tasks, lists and teams the user has.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AdminUserDTO {
+
+    private Long id;
+    private String username;
+    private String email;
+    private boolean blocked;
+    private Date creationDate;
+    private List<String> roles;
+    private long taskCount;
+    private long listCount;
+    private long teamCount;
+    private Integer revokedSessions;
+
+    public AdminUserDTO() {
+    }
+
+    public static AdminUserDTO fromEntity(User user, long taskCount, long listCount, long teamCount) {
+        AdminUserDTO dto = new AdminUserDTO();
+        dto.setId(user.getId());
+        dto.setUsername(user.getUsername());
+        dto.setEmail(user.getEmail());
+        dto.setBlocked(user.isBlocked());
+        dto.setCreationDate(user.getCreationDate());
+        dto.setRoles(user.getRoles().stream().map(role -> role.getName()).toList());
+        dto.setTaskCount(taskCount);
+        dto.setListCount(listCount);
+        dto.setTeamCount(teamCount);
+        return dto;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public boolean isBlocked() {
+        return blocked;
+    }
+
+    public void setBlocked(boolean blocked) {
+        this.blocked = blocked;
+    }
+
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public void setRoles(List<String> roles) {
+        this.roles = roles;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    public void setTaskCount(long taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public long getListCount() {
+        return listCount;
+    }
+
+    public void setListCount(long listCount) {
+        this.listCount = listCount;
+    }
+
+    public long getTeamCount() {
+        return teamCount;
+    }
+
+    public void setTeamCount(long teamCount) {
+        this.teamCount = teamCount;
+    }
+
+    /**
+     * Only set in the response of a block toggle: sessions revoked because the user was blocked.
+     */
+    public Integer getRevokedSessions() {
+        return revokedSessions;
+    }
+
+    public void setRevokedSessions(Integer revokedSessions) {
+        this.revokedSessions = revokedSessions;
+    }
+}
@@ -0,0 +1,88 @@
+package com.taskmanager.application.model.dto;
+
+import java.util.List;
+
+import com.taskmanager.application.model.entities.PriorityTask;
+import com.taskmanager.application.model.entities.StateTask;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * One operation applied to many tasks at once (POST /api/tasks/bulk).
+ * {@code state}/{@code priority} are read by UPDATE, {@code listId} by MOVE_TO_LIST
+ * (null takes the tasks out of their list) and {@code teamId} by ADD_TO_TEAM.
+ */
+public class BulkTaskRequestDTO {
+
+    public static final int MAX_TASKS = 5000;
+
+    public enum Operation {
+        UPDATE,
+        DELETE,
+        MOVE_TO_LIST,
+        ADD_TO_TEAM
+    }
+
+    @NotNull(message = "Operation is required")
+    private Operation operation;
+    @NotEmpty(message = "At least one task id is required")
+    @Size(max = MAX_TASKS, message = "At most " + MAX_TASKS + " tasks per request")
+    private List<Long> taskIds;
+    private StateTask state;
+    private PriorityTask priority;
+    private Long listId;
+    private Long teamId;
+
+    public BulkTaskRequestDTO() {
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<Long> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    public StateTask getState() {
+        return state;
+    }
+
+    public void setState(StateTask state) {
+        this.state = state;
+    }
+
+    public PriorityTask getPriority() {
+        return priority;
+    }
+
+    public void setPriority(PriorityTask priority) {
+        this.priority = priority;
+    }
+
+    public Long getListId() {
+        return listId;
+    }
+
+    public void setListId(Long listId) {
+        this.listId = listId;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanager.application.model.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk task operation, with one entry per requested task id in
+ * request order. Tasks that were not found or not allowed are reported and
+ * skipped; the rest are applied.
+ */
+public class BulkTaskResultDTO {
+
+    public enum Status {
+        OK,
+        NOT_FOUND,
+        FORBIDDEN
+    }
+
+    private BulkTaskRequestDTO.Operation operation;
+    private int succeeded;
+    private int failed;
+    private List<Item> results;
+
+    public BulkTaskResultDTO() {
+    }
+
+    public BulkTaskResultDTO(BulkTaskRequestDTO.Operation operation, List<Item> results) {
+        this.operation = operation;
+        this.results = results;
+        this.succeeded = (int) results.stream().filter(item -> item.status() == Status.OK).count();
+        this.failed = results.size() - succeeded;
+    }
+
+    public BulkTaskRequestDTO.Operation getOperation() {
+        return operation;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<Item> getResults() {
+        return results;
+    }
+
+    public record Item(Long taskId, Status status) {
+
+    }
+}
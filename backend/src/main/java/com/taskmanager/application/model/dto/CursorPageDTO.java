@@ -0,0 +1,82 @@
+package com.taskmanager.application.model.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (seek) listing. Unlike {@link PagedResponseDTO} it has no
+ * totals: the next page is requested with {@code nextCursor}, which encodes the
+ * sort key of the last element, so no COUNT query or OFFSET is needed.
+ */
+public class CursorPageDTO<T> {
+
+    public static final int MAX_SIZE = 2000;
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public CursorPageDTO() {
+    }
+
+    public static <T> CursorPageDTO<T> from(Slice<T> slice, Function<T, Cursor> cursorOf) {
+        CursorPageDTO<T> dto = new CursorPageDTO<>();
+        dto.content = slice.getContent();
+        dto.size = slice.getSize();
+        dto.hasNext = slice.hasNext();
+        if (slice.hasNext() && slice.hasContent()) {
+            dto.nextCursor = cursorOf.apply(dto.content.get(dto.content.size() - 1)).encode();
+        }
+        return dto;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Position after which the next page starts: the date and id of the last
+     * element returned. Clients only see it as an opaque URL-safe string.
+     *
+     * The date columns are nullable and SQLite sorts NULL last in a descending
+     * order, so a null date is a valid position: it is encoded with an empty date
+     * and the repositories page the undated rows by id alone.
+     */
+    public record Cursor(Date date, Long id) {
+
+        public String encode() {
+            String raw = (date != null ? Long.toString(date.getTime()) : "") + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                String date = raw.substring(0, separator);
+                return new Cursor(date.isEmpty() ? null : new Date(Long.parseLong(date)),
+                        Long.valueOf(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskmanager.application.model.dto;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskmanager.application.model.entities.BackgroundJob;
+import com.taskmanager.application.model.entities.JobStatus;
+import com.taskmanager.application.model.entities.JobType;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobDTO {
+
+    private Long id;
+    private JobType type;
+    private JobStatus status;
+    private Long targetId;
+    private long processed;
+    private Long total;
+    private boolean cancelRequested;
+    private String error;
+    private Date createdDate;
+    private Date startedDate;
+    private Date finishedDate;
+
+    public JobDTO() {
+    }
+
+    public static JobDTO fromEntity(BackgroundJob job) {
+        JobDTO dto = new JobDTO();
+        dto.id = job.getId();
+        dto.type = job.getType();
+        dto.status = job.getStatus();
+        dto.targetId = job.getTargetId();
+        dto.processed = job.getProcessed();
+        dto.total = job.getTotal();
+        dto.cancelRequested = job.isCancelRequested();
+        dto.error = job.getError();
+        dto.createdDate = job.getCreatedDate();
+        dto.startedDate = job.getStartedDate();
+        dto.finishedDate = job.getFinishedDate();
+        return dto;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public JobType getType() {
+        return type;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Date getCreatedDate() {
+        return createdDate;
+    }
+
+    public Date getStartedDate() {
+        return startedDate;
+    }
+
+    public Date getFinishedDate() {
+        return finishedDate;
+    }
+}
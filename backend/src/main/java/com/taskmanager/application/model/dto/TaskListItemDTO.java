@@ -0,0 +1,172 @@
+package com.taskmanager.application.model.dto;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.taskmanager.application.model.entities.PriorityTask;
+import com.taskmanager.application.model.entities.StateTask;
+
+/**
+ * Read model for task list views, filled by constructor queries in TaskRepository.
+ * Instead of the full description it carries {@code descriptionPreview}, cut to
+ * {@link #DESCRIPTION_PREVIEW_LENGTH} characters in SQL. The full text is only read
+ * by the detail view ({@link TaskDTO}); anything that edits a task must load it from
+ * there, never from a list row.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskListItemDTO {
+
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 200;
+
+    private Long id;
+    private String nameOfTask;
+    private String descriptionPreview;
+    private StateTask state;
+    private PriorityTask priority;
+    private Date creationDate;
+    private String user;
+    private boolean isEvent;
+    private Date startDate;
+    private Date endDate;
+    private Long listId;
+    private String listName;
+    private Long teamId;
+    private String teamName;
+
+    public TaskListItemDTO() {
+    }
+
+    public TaskListItemDTO(Long id, String nameOfTask, String descriptionPreview, StateTask state,
+            PriorityTask priority, Date creationDate, String user, Long eventId, Date startDate, Date endDate,
+            Long listId, String listName, Long teamId, String teamName) {
+        this.id = id;
+        this.nameOfTask = nameOfTask;
+        this.descriptionPreview = descriptionPreview;
+        this.state = state;
+        this.priority = priority;
+        this.creationDate = creationDate;
+        this.user = user;
+        this.isEvent = eventId != null;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.listId = listId;
+        this.listName = listName;
+        this.teamId = teamId;
+        this.teamName = teamName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNameOfTask() {
+        return nameOfTask;
+    }
+
+    public void setNameOfTask(String nameOfTask) {
+        this.nameOfTask = nameOfTask;
+    }
+
+    public String getDescriptionPreview() {
+        return descriptionPreview;
+    }
+
+    public void setDescriptionPreview(String descriptionPreview) {
+        this.descriptionPreview = descriptionPreview;
+    }
+
+    public StateTask getState() {
+        return state;
+    }
+
+    public void setState(StateTask state) {
+        this.state = state;
+    }
+
+    public PriorityTask getPriority() {
+        return priority;
+    }
+
+    public void setPriority(PriorityTask priority) {
+        this.priority = priority;
+    }
+
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    @JsonProperty("isEvent")
+    public boolean isEvent() {
+        return isEvent;
+    }
+
+    @JsonProperty("isEvent")
+    public void setIsEvent(boolean isEvent) {
+        this.isEvent = isEvent;
+    }
+
+    public Date getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(Date startDate) {
+        this.startDate = startDate;
+    }
+
+    public Date getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(Date endDate) {
+        this.endDate = endDate;
+    }
+
+    public Long getListId() {
+        return listId;
+    }
+
+    public void setListId(Long listId) {
+        this.listId = listId;
+    }
+
+    public String getListName() {
+        return listName;
+    }
+
+    public void setListName(String listName) {
+        this.listName = listName;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public void setTeamName(String teamName) {
+        this.teamName = teamName;
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskmanager.application.model.dto;
+
+/**
+ * Owner and team of a task, read in bulk to check permissions without loading the entities.
+ */
+public class TaskOwnershipDTO {
+
+    private Long taskId;
+    private Long ownerId;
+    private Long teamId;
+
+    public TaskOwnershipDTO() {
+    }
+
+    public TaskOwnershipDTO(Long taskId, Long ownerId, Long teamId) {
+        this.taskId = taskId;
+        this.ownerId = ownerId;
+        this.teamId = teamId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+}
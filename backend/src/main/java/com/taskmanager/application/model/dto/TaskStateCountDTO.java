@@ -0,0 +1,46 @@
+package com.taskmanager.application.model.dto;
+
+import com.taskmanager.application.model.entities.StateTask;
+
+/**
+ * One row of a grouped task count: how many tasks a user has in a given state.
+ */
+public class TaskStateCountDTO {
+
+    private Long userId;
+    private StateTask state;
+    private long count;
+
+    public TaskStateCountDTO() {
+    }
+
+    public TaskStateCountDTO(Long userId, StateTask state, Long count) {
+        this.userId = userId;
+        this.state = state;
+        this.count = count != null ? count : 0;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public StateTask getState() {
+        return state;
+    }
+
+    public void setState(StateTask state) {
+        this.state = state;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
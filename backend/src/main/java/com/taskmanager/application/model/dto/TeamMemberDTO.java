@@ -20,6 +20,15 @@ public class TeamMemberDTO {
     public TeamMemberDTO() {
     }
 
+    public TeamMemberDTO(Long id, Long userId, String username, String email, TeamRole role, Date joinedDate) {
+        this.id = id;
+        this.userId = userId;
+        this.username = username;
+        this.email = email;
+        this.role = role;
+        this.joinedDate = joinedDate;
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,34 @@
+package com.taskmanager.application.model.dto;
+
+/**
+ * One row of a per-user count grouped by user id.
+ */
+public class UserCountDTO {
+
+    private Long userId;
+    private long count;
+
+    public UserCountDTO() {
+    }
+
+    public UserCountDTO(Long userId, Long count) {
+        this.userId = userId;
+        this.count = count != null ? count : 0;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
@@ -2,8 +2,6 @@ package com.taskmanager.application.model.entities;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
@@ -13,7 +11,7 @@ import jakarta.persistence.Table;
 public class AppConfig {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("app_config")
     private Long id;
 
     @Column(name = "config_key", unique = true, nullable = false)
@@ -2,14 +2,12 @@ package com.taskmanager.application.model.entities;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 
 @Entity
 public class AuthorityOfRole {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("authority_of_role")
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -1,8 +1,6 @@
 package com.taskmanager.application.model.entities;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
 import java.util.Date;
@@ -12,7 +10,7 @@ import java.util.Date;
 public class EventTask {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("event_task")
     private Long id;
 
     private Date startTime;
@@ -0,0 +1,6 @@
+package com.taskmanager.application.model.entities;
+
+public enum JobType {
+    DELETE_TEAM,
+    DELETE_LIST;
+}
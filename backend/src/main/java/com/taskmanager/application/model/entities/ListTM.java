@@ -3,11 +3,11 @@ package com.taskmanager.application.model.entities;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -17,7 +17,7 @@ import jakarta.persistence.OneToMany;
 public class ListTM {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("listtm")
     private Long id;
 
     @Column(name = "name", nullable = false)
@@ -30,7 +30,9 @@ public class ListTM {
     @Column(nullable = false)
     private String color;
 
+    // Pages of lists read every list's tasks for the counts; load them for the whole page at once
     @OneToMany(mappedBy = "list", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @BatchSize(size = 100)
     private List<Task> listTasks = new ArrayList<>();
 
     @ManyToOne
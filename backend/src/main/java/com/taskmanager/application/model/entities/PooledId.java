@@ -0,0 +1,29 @@
+package com.taskmanager.application.model.entities;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates the id in the application from blocks reserved in the
+ * {@code id_generator} table (see {@link PooledIdGenerator}), so inserts can be
+ * JDBC-batched, which IDENTITY columns prevent.
+ *
+ * {@code value} is the row of {@code id_generator} to draw from; by convention
+ * the entity's table name. A new entity needs that row, seeded above the
+ * table's current ids, in the migration that creates its table.
+ */
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface PooledId {
+
+    String value();
+
+    int allocationSize() default 50;
+}
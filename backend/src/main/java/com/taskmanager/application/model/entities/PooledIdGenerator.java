@@ -0,0 +1,168 @@
+package com.taskmanager.application.model.entities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.community.dialect.SQLiteDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.jdbc.AbstractReturningWork;
+
+/**
+ * Pooled-lo id generator backed by the {@code id_generator} table.
+ *
+ * A block of {@code allocationSize} ids is reserved by bumping the row's
+ * {@code next_val}. On SQLite that happens inside the current transaction:
+ * SQLite has a single writer, and Hibernate's own {@code @TableGenerator}, which
+ * uses a second connection, would wait for the write lock held by the caller.
+ * Because that reservation commits or rolls back with the transaction, a block
+ * stays private to the transaction that reserved it: once that transaction
+ * commits, its unused ids are shared with later transactions; if it rolls
+ * back they are dropped, since the reservation was undone too. Sessions without
+ * an action queue (stateless sessions) have no hook to release a block after
+ * commit, so they reserve one id at a time instead and never hold a block.
+ *
+ * Other databases lock rows, and holding the {@code id_generator} row until the
+ * caller commits would serialize every insert into the table. There the block
+ * is reserved in a separate transaction, as {@code @TableGenerator} does, and is
+ * shared at once.
+ */
+public class PooledIdGenerator implements BeforeExecutionGenerator {
+
+    private static final String RESERVE = "UPDATE id_generator SET next_val = next_val + ? WHERE sequence_name = ?";
+
+    private static final String READ = "SELECT next_val FROM id_generator WHERE sequence_name = ?";
+
+    private final String sequenceName;
+    private final int allocationSize;
+
+    // Reserved by committed transactions and free for anyone
+    private Block shared = Block.EMPTY;
+
+    // Reserved by transactions still in flight, one per session with an action queue
+    private final Map<SharedSessionContractImplementor, Block> pending = new ConcurrentHashMap<>();
+
+    public PooledIdGenerator(PooledId config) {
+        this.sequenceName = config.value();
+        this.allocationSize = Math.max(1, config.allocationSize());
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        synchronized (this) {
+            if (shared.hasNext()) {
+                return shared.next();
+            }
+            if (!reservesInTransaction(session)) {
+                shared = reserveIsolated(session);
+                return shared.next();
+            }
+        }
+
+        if (!(session instanceof EventSource eventSource)) {
+            return reserve(session, 1).next();
+        }
+
+        Block block = pending.get(session);
+        if (block == null || !block.hasNext()) {
+            boolean firstInTransaction = block == null;
+            block = reserve(session, allocationSize);
+            pending.put(session, block);
+            if (firstInTransaction) {
+                eventSource.getActionQueue().registerProcess((success, completed) -> release(completed, success));
+            }
+        }
+        return block.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    private void release(SharedSessionContractImplementor session, boolean committed) {
+        Block block = pending.remove(session);
+        if (!committed || block == null || !block.hasNext()) {
+            return;
+        }
+        synchronized (this) {
+            if (!shared.hasNext()) {
+                shared = block;
+            }
+        }
+    }
+
+    private boolean reservesInTransaction(SharedSessionContractImplementor session) {
+        return session.getJdbcServices().getDialect() instanceof SQLiteDialect;
+    }
+
+    private Block reserve(SharedSessionContractImplementor session, int size) {
+        try {
+            return reserve(session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection(), size);
+        } catch (SQLException e) {
+            throw new IdentifierGenerationException("Could not reserve ids for '" + sequenceName + "'", e);
+        }
+    }
+
+    private Block reserveIsolated(SharedSessionContractImplementor session) {
+        return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
+                new AbstractReturningWork<Block>() {
+                    @Override
+                    public Block execute(Connection connection) throws SQLException {
+                        return reserve(connection, allocationSize);
+                    }
+                }, true);
+    }
+
+    private Block reserve(Connection connection, int size) throws SQLException {
+        // Update first, so the row is locked before it is read
+        try (PreparedStatement reserve = connection.prepareStatement(RESERVE);
+                PreparedStatement read = connection.prepareStatement(READ)) {
+            reserve.setInt(1, size);
+            reserve.setString(2, sequenceName);
+            if (reserve.executeUpdate() != 1) {
+                throw new IdentifierGenerationException("No id_generator row for '" + sequenceName + "'");
+            }
+            read.setString(1, sequenceName);
+            try (ResultSet rs = read.executeQuery()) {
+                rs.next();
+                long end = rs.getLong(1);
+                return new Block(end - size, end);
+            }
+        }
+    }
+
+    /**
+     * Ids from {@code next} (inclusive) to {@code end} (exclusive).
+     */
+    private static final class Block {
+
+        private static final Block EMPTY = new Block(0, 0);
+
+        private long next;
+        private final long end;
+
+        private Block(long next, long end) {
+            this.next = next;
+            this.end = end;
+        }
+
+        private boolean hasNext() {
+            return next < end;
+        }
+
+        private long next() {
+            return next++;
+        }
+    }
+}
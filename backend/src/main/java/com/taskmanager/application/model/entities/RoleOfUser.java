@@ -5,8 +5,6 @@ package com.taskmanager.application.model.entities;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
@@ -18,7 +16,7 @@ import java.util.Set;
 @Entity
 public class RoleOfUser {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("role_of_user")
     private Long id;
     
     @Column(unique = true, nullable = false)
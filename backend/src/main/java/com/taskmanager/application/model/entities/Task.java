@@ -3,12 +3,13 @@ package com.taskmanager.application.model.entities;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 
@@ -17,10 +18,22 @@ import java.util.Date;
 import java.util.List;
 
 @Entity
+@NamedEntityGraph(name = Task.DETAILS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("eventTask"),
+        @NamedAttributeNode("list"),
+        @NamedAttributeNode("team")
+})
 public class Task {
 
+    /**
+     * Fetch plan with everything {@code TaskDTO.fromEntity} reads; listing queries use it
+     * so a page of tasks is loaded with one select instead of one per association.
+     */
+    public static final String DETAILS_GRAPH = "Task.details";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("task")
     private Long id;
 
     @Column(name = "name", nullable = false)
@@ -35,24 +48,24 @@ public class Task {
 
     private Date creationDate;
 
-    @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "event_id", nullable = true)
     private EventTask eventTask;
 
     @Column(nullable = false)
     private PriorityTask priority;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ActionTask> actions = new ArrayList<>();
 
-    @ManyToOne(optional = true)
+    @ManyToOne(fetch = FetchType.LAZY, optional = true)
     @JoinColumn(name = "list_id", nullable = true)
     private ListTM list;
 
-    @ManyToOne(optional = true)
+    @ManyToOne(fetch = FetchType.LAZY, optional = true)
     @JoinColumn(name = "team_id", nullable = true)
     private Team team;
 
@@ -1,8 +1,6 @@
 package com.taskmanager.application.model.entities;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -13,7 +11,7 @@ import java.util.Date;
 public class TaskAssignmentHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("task_assignment_history")
     private Long id;
 
     @ManyToOne
@@ -3,8 +3,6 @@ package com.taskmanager.application.model.entities;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.OneToMany;
@@ -13,11 +11,13 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+
 @Entity
 public class Team {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("team")
     private Long id;
 
     @Column(nullable = false)
@@ -29,7 +29,9 @@ public class Team {
 
     private Date creationDate;
 
+    // Pages of teams read every team's member count; load the members for the whole page at once
     @OneToMany(mappedBy = "team", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<TeamMember> members = new ArrayList<>();
 
     public Team() {
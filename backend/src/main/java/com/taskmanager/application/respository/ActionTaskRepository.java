@@ -1,10 +1,16 @@
 package com.taskmanager.application.respository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.taskmanager.application.model.entities.ActionTask;
@@ -16,4 +22,25 @@ public interface ActionTaskRepository extends JpaRepository<ActionTask, Long>{
     List<ActionTask> findAllByTask(Task task);
 
     Page<ActionTask> findAllByTask(Task task, Pageable pageable);
+
+    // Keyset pagination, newest first: the first page, then the rows after an (actionDate, id) cursor.
+    // SQLite sorts NULL dates last, so they follow every dated row and, once reached, are paged by id.
+    @Query("SELECT a FROM ActionTask a WHERE a.task = :task ORDER BY a.actionDate DESC, a.id DESC")
+    Slice<ActionTask> findFirstSliceByTask(@Param("task") Task task, Pageable pageable);
+
+    @Query("SELECT a FROM ActionTask a WHERE a.task = :task "
+            + "AND (a.actionDate < :actionDate OR (a.actionDate = :actionDate AND a.id < :id) "
+            + "OR a.actionDate IS NULL) "
+            + "ORDER BY a.actionDate DESC, a.id DESC")
+    Slice<ActionTask> findSliceByTaskAfter(@Param("task") Task task, @Param("actionDate") Date actionDate,
+            @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT a FROM ActionTask a WHERE a.task = :task AND a.actionDate IS NULL AND a.id < :id "
+            + "ORDER BY a.id DESC")
+    Slice<ActionTask> findSliceByTaskAfterNullDate(@Param("task") Task task, @Param("id") Long id,
+            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ActionTask a WHERE a.task.id IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
@@ -2,13 +2,39 @@ package com.taskmanager.application.respository;
 
 import com.taskmanager.application.model.entities.AuthSession;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AuthSessionRepository extends JpaRepository<AuthSession, Long> {
 
     Optional<AuthSession> findBySessionIdentifier(String sessionIdentifier);
+
+    @Query("SELECT s.sessionIdentifier FROM AuthSession s WHERE s.revokedAt >= :since")
+    List<String> findSessionIdentifiersRevokedSince(@Param("since") Date since);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AuthSession s SET s.revokedAt = :revokedAt, s.revokeReason = :reason "
+            + "WHERE s.user.id = :userId AND s.revokedAt IS NULL")
+    int revokeByUserId(@Param("userId") Long userId, @Param("revokedAt") Date revokedAt,
+            @Param("reason") String reason);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AuthSession s SET s.revokedAt = :revokedAt, s.revokeReason = :reason WHERE s.revokedAt IS NULL")
+    int revokeAll(@Param("revokedAt") Date revokedAt, @Param("reason") String reason);
+
+    @Query("SELECT s.id FROM AuthSession s WHERE s.expiresAt < :cutoff OR s.revokedAt < :cutoff ORDER BY s.id")
+    List<Long> findIdsExpiredOrRevokedBefore(@Param("cutoff") Date cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM AuthSession s WHERE s.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
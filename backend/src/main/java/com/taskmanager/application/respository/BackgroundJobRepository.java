@@ -0,0 +1,41 @@
+package com.taskmanager.application.respository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskmanager.application.model.entities.BackgroundJob;
+import com.taskmanager.application.model.entities.JobStatus;
+import com.taskmanager.application.model.entities.JobType;
+
+@Repository
+public interface BackgroundJobRepository extends JpaRepository<BackgroundJob, Long> {
+
+    // Polled every few seconds; read-only so it uses a reader connection, not the SQLite writer
+    @Transactional(readOnly = true)
+    @Query("SELECT j.id FROM BackgroundJob j WHERE j.status = :status ORDER BY j.createdDate ASC, j.id ASC")
+    List<Long> findIdsByStatus(@Param("status") JobStatus status, Pageable pageable);
+
+    Optional<BackgroundJob> findFirstByTypeAndTargetIdAndStatusIn(JobType type, Long targetId, Collection<JobStatus> statuses);
+
+    /**
+     * Moves one job from {@code from} to {@code to}; returns 0 if it was no longer in {@code from}.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE BackgroundJob j SET j.status = :to WHERE j.id = :id AND j.status = :from")
+    int updateStatus(@Param("id") Long id, @Param("from") JobStatus from, @Param("to") JobStatus to);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE BackgroundJob j SET j.status = :to WHERE j.status = :from")
+    int updateAllStatus(@Param("from") JobStatus from, @Param("to") JobStatus to);
+}
@@ -1,10 +1,12 @@
 package com.taskmanager.application.respository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,4 +25,8 @@ public interface EventTaskRepository extends JpaRepository<EventTask, Long> {
             + "FROM EventTask e JOIN e.task t WHERE t.user.id = :userId AND (e.startTime >= :now OR e.endTime >= :now) ORDER BY e.startTime ASC")
     public List<EventTaskDTO> findUpcomingEventsByUserId(@Param("userId") Long userId, @Param("now") Date now, Pageable pageable);
 
+    @Modifying
+    @Query("DELETE FROM EventTask e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
 }
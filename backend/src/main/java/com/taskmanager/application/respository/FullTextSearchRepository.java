@@ -0,0 +1,159 @@
+package com.taskmanager.application.respository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Ranked search over the SQLite FTS5 indexes created by migrations V5 and V9
+ * ({@code task_fts}, {@code listtm_fts}, {@code team_fts}) and V6
+ * ({@code user_search}). Triggers keep the indexes in sync with the base
+ * tables, so nothing here writes.
+ *
+ * Methods return the ids of the matching rows best match first (bm25; for tasks
+ * a hit in the name weighs more than one in the description), restricted to what
+ * the given user owns or belongs to. The restriction is part of the FTS query:
+ * every row is indexed with an {@code owner} token per allowed user, so the
+ * search and its count only visit that user's rows. Callers load the rows by id.
+ */
+@Repository
+public class FullTextSearchRepository {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    // The trigram tokenizer cannot match anything shorter than one trigram
+    public static final int MIN_USER_QUERY_LENGTH = 3;
+
+    private static final String TASK_MATCH = "FROM task_fts WHERE task_fts MATCH ? ";
+
+    private static final String LIST_MATCH = "FROM listtm_fts WHERE listtm_fts MATCH ? ";
+
+    private static final String TEAM_MATCH = "FROM team_fts WHERE team_fts MATCH ? ";
+
+    private static final String USER_MATCH = "FROM user_search s JOIN app_user u ON u.id = s.rowid "
+            + "WHERE user_search MATCH ? ";
+
+    // Exact matches first, then prefix matches, then the rest by bm25
+    private static final String USER_RANK = "CASE WHEN lower(u.username) = ? OR lower(u.email) = ? THEN 0 "
+            + "WHEN substr(lower(u.username), 1, length(?)) = ? OR substr(lower(u.email), 1, length(?)) = ? THEN 1 "
+            + "ELSE 2 END, bm25(user_search), u.username";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Turns free text into an FTS5 query: every word must match, and each one
+     * matches as a prefix ("rep fin" finds "Final report"). Returns null when the
+     * text has no letters or digits to search for.
+     */
+    public static String toMatchExpression(String text) {
+        if (text == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            terms.add("\"" + matcher.group() + "\"*");
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+
+    /**
+     * Restricts {@code match}, built by {@link #toMatchExpression(String)}, to the
+     * rows indexed for {@code userId} and keeps the search terms off the owner column.
+     */
+    private static String ownedBy(Long userId, String columns, String match) {
+        return "owner : \"u" + userId + "\" AND {" + columns + "} : (" + match + ")";
+    }
+
+    public List<Long> searchTaskIds(Long userId, String match, int limit, long offset) {
+        return jdbcTemplate.queryForList("SELECT rowid " + TASK_MATCH
+                + "ORDER BY bm25(task_fts, 10.0, 1.0, 0.0) LIMIT ? OFFSET ?", Long.class,
+                ownedBy(userId, "name description", match), limit, offset);
+    }
+
+    public long countTasks(Long userId, String match) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) " + TASK_MATCH, Long.class,
+                ownedBy(userId, "name description", match));
+        return count != null ? count : 0;
+    }
+
+    public List<Long> searchListIds(Long userId, String match, int limit, long offset) {
+        return jdbcTemplate.queryForList("SELECT rowid " + LIST_MATCH
+                + "ORDER BY bm25(listtm_fts, 1.0, 0.0) LIMIT ? OFFSET ?", Long.class,
+                ownedBy(userId, "name", match), limit, offset);
+    }
+
+    public long countLists(Long userId, String match) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) " + LIST_MATCH, Long.class,
+                ownedBy(userId, "name", match));
+        return count != null ? count : 0;
+    }
+
+    public List<Long> searchTeamIds(Long userId, String match, int limit, long offset) {
+        return jdbcTemplate.queryForList("SELECT rowid " + TEAM_MATCH
+                + "ORDER BY bm25(team_fts, 1.0, 0.0) LIMIT ? OFFSET ?", Long.class,
+                ownedBy(userId, "name", match), limit, offset);
+    }
+
+    public long countTeams(Long userId, String match) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) " + TEAM_MATCH, Long.class,
+                ownedBy(userId, "name", match));
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Substring query for {@code user_search}: the whole text as one phrase, which
+     * the trigram tokenizer matches anywhere in a username or email. Returns null
+     * when the text is shorter than {@link #MIN_USER_QUERY_LENGTH}.
+     */
+    public static String toUserMatchExpression(String text) {
+        if (text == null || text.codePointCount(0, text.length()) < MIN_USER_QUERY_LENGTH) {
+            return null;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Typo-tolerant query for {@code user_search}: any trigram of the text may
+     * match, and bm25 ranks the users sharing the most trigrams first. Returns null
+     * when the text has fewer than two trigrams, where it adds nothing over
+     * {@link #toUserMatchExpression(String)}.
+     */
+    public static String toUserFuzzyMatchExpression(String text) {
+        if (text == null) {
+            return null;
+        }
+        int[] codePoints = text.codePoints().toArray();
+        if (codePoints.length <= MIN_USER_QUERY_LENGTH) {
+            return null;
+        }
+        List<String> trigrams = new ArrayList<>();
+        for (int i = 0; i + MIN_USER_QUERY_LENGTH <= codePoints.length; i++) {
+            String trigram = new String(codePoints, i, MIN_USER_QUERY_LENGTH);
+            trigrams.add("\"" + trigram.replace("\"", "\"\"") + "\"");
+        }
+        return String.join(" OR ", trigrams);
+    }
+
+    /**
+     * Ids of the users matching {@code match}, ranked for {@code query}. A negative
+     * limit returns every match.
+     */
+    public List<Long> searchUserIds(String query, String match, int limit, long offset) {
+        String rankKey = query.toLowerCase(Locale.ROOT);
+        return jdbcTemplate.queryForList("SELECT u.id " + USER_MATCH + "ORDER BY " + USER_RANK + " LIMIT ? OFFSET ?",
+                Long.class, match, rankKey, rankKey, rankKey, rankKey, rankKey, rankKey, limit, offset);
+    }
+
+    public long countUsers(String match) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) " + USER_MATCH, Long.class, match);
+        return count != null ? count : 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskmanager.application.respository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.taskmanager.application.model.dto.UserCountDTO;
 import com.taskmanager.application.model.entities.ListTM;
 import com.taskmanager.application.model.entities.User;
 
@@ -21,6 +23,7 @@ public interface ListRepository extends JpaRepository<ListTM, Long> {
 
     long countByUser(User user);
 
-    @Query("SELECT l FROM ListTM l WHERE l.user = :user AND LOWER(l.nameOfList) LIKE LOWER(CONCAT('%', :name, '%'))")
-    Page<ListTM> findByUserAndNameContaining(@Param("user") User user, @Param("name") String name, Pageable pageable);
+    @Query("SELECT new com.taskmanager.application.model.dto.UserCountDTO(l.user.id, COUNT(l)) "
+            + "FROM ListTM l WHERE l.user.id IN :userIds GROUP BY l.user.id")
+    List<UserCountDTO> countByUserIds(@Param("userIds") Collection<Long> userIds);
 }
@@ -3,10 +3,15 @@ package com.taskmanager.application.respository;
 import com.taskmanager.application.model.entities.AuthSession;
 import com.taskmanager.application.model.entities.RefreshToken;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +20,35 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     Optional<RefreshToken> findByTokenIdentifier(String tokenIdentifier);
 
     List<RefreshToken> findBySession(AuthSession session);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :revokedAt, t.revokeReason = :reason "
+            + "WHERE t.session = :session AND t.revokedAt IS NULL")
+    int revokeBySession(@Param("session") AuthSession session, @Param("revokedAt") Date revokedAt,
+            @Param("reason") String reason);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :revokedAt, t.revokeReason = :reason "
+            + "WHERE t.revokedAt IS NULL AND t.session.id IN "
+            + "(SELECT s.id FROM AuthSession s WHERE s.user.id = :userId)")
+    int revokeByUserId(@Param("userId") Long userId, @Param("revokedAt") Date revokedAt,
+            @Param("reason") String reason);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :revokedAt, t.revokeReason = :reason WHERE t.revokedAt IS NULL")
+    int revokeAll(@Param("revokedAt") Date revokedAt, @Param("reason") String reason);
+
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt < :cutoff OR t.revokedAt < :cutoff ORDER BY t.id")
+    List<Long> findIdsExpiredOrRevokedBefore(@Param("cutoff") Date cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.session.id IN :sessionIds ORDER BY t.id")
+    List<Long> findIdsBySessionIdIn(@Param("sessionIds") List<Long> sessionIds, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.session.id IN :sessionIds")
+    int deleteBySessionIdIn(@Param("sessionIds") List<Long> sessionIds);
 }
@@ -4,19 +4,53 @@ import com.taskmanager.application.model.entities.Task;
 import com.taskmanager.application.model.entities.TaskAssignmentHistory;
 import com.taskmanager.application.model.entities.Team;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TaskAssignmentHistoryRepository extends JpaRepository<TaskAssignmentHistory, Long> {
 
+    // These fetch what TaskAssignmentHistoryDTO reads; the eager to-ones would otherwise cost one select per row
+    @EntityGraph(attributePaths = {"task", "fromUser", "toUser", "changedBy"})
     List<TaskAssignmentHistory> findAllByTeamOrderByChangedDateDesc(Team team);
 
+    @EntityGraph(attributePaths = {"task", "fromUser", "toUser", "changedBy"})
     Page<TaskAssignmentHistory> findAllByTeamOrderByChangedDateDesc(Team team, Pageable pageable);
 
+    // Keyset pagination, newest first: the first page, then the rows after a (changedDate, id) cursor.
+    // SQLite sorts NULL dates last, so they follow every dated row and, once reached, are paged by id.
+    @EntityGraph(attributePaths = {"task", "fromUser", "toUser", "changedBy"})
+    @Query("SELECT h FROM TaskAssignmentHistory h WHERE h.team = :team ORDER BY h.changedDate DESC, h.id DESC")
+    Slice<TaskAssignmentHistory> findFirstSliceByTeam(@Param("team") Team team, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"task", "fromUser", "toUser", "changedBy"})
+    @Query("SELECT h FROM TaskAssignmentHistory h WHERE h.team = :team "
+            + "AND (h.changedDate < :changedDate OR (h.changedDate = :changedDate AND h.id < :id) "
+            + "OR h.changedDate IS NULL) "
+            + "ORDER BY h.changedDate DESC, h.id DESC")
+    Slice<TaskAssignmentHistory> findSliceByTeamAfter(@Param("team") Team team,
+            @Param("changedDate") Date changedDate, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"task", "fromUser", "toUser", "changedBy"})
+    @Query("SELECT h FROM TaskAssignmentHistory h WHERE h.team = :team AND h.changedDate IS NULL AND h.id < :id "
+            + "ORDER BY h.id DESC")
+    Slice<TaskAssignmentHistory> findSliceByTeamAfterNullDate(@Param("team") Team team, @Param("id") Long id,
+            Pageable pageable);
+
     List<TaskAssignmentHistory> findAllByTaskOrderByChangedDateDesc(Task task);
+
+    @Modifying
+    @Query("DELETE FROM TaskAssignmentHistory h WHERE h.task.id IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
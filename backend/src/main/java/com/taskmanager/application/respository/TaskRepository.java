@@ -1,76 +1,180 @@
 package com.taskmanager.application.respository;
 
+import com.taskmanager.application.model.entities.ListTM;
 import com.taskmanager.application.model.entities.Task;
 import com.taskmanager.application.model.entities.User;
 import com.taskmanager.application.model.entities.Team;
 import com.taskmanager.application.model.entities.StateTask;
 import com.taskmanager.application.model.entities.PriorityTask;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.taskmanager.application.model.dto.TaskListItemDTO;
+import com.taskmanager.application.model.dto.TaskOwnershipDTO;
 import com.taskmanager.application.model.dto.TaskResumeDTO;
+import com.taskmanager.application.model.dto.TaskStateCountDTO;
+import com.taskmanager.application.model.dto.TaskSummaryDTO;
+import com.taskmanager.application.model.dto.UserCountDTO;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    // List views read only these columns; the description is cut in SQL and no entity is managed
+    String LIST_ITEM_SELECT = "SELECT new com.taskmanager.application.model.dto.TaskListItemDTO("
+            + "t.id, t.nameOfTask, SUBSTRING(t.descriptionOfTask, 1, " + TaskListItemDTO.DESCRIPTION_PREVIEW_LENGTH + "), "
+            + "t.state, t.priority, t.creationDate, u.username, e.id, e.startTime, e.endTime, "
+            + "l.id, l.nameOfList, tm.id, tm.name) "
+            + "FROM Task t LEFT JOIN t.user u LEFT JOIN t.eventTask e LEFT JOIN t.list l LEFT JOIN t.team tm ";
+
+    String SUMMARY_SELECT = "SELECT new com.taskmanager.application.model.dto.TaskSummaryDTO("
+            + "t.id, t.nameOfTask, t.state, t.priority, l.nameOfList, tm.name) "
+            + "FROM Task t LEFT JOIN t.list l LEFT JOIN t.team tm ";
+
+    String TEAM_FILTER = "WHERE t.team.id = :teamId "
+            + "AND (:ownerId IS NULL OR t.user.id = :ownerId) "
+            + "AND (:state IS NULL OR t.state = :state) "
+            + "AND (:priority IS NULL OR t.priority = :priority)";
+
+    @EntityGraph(Task.DETAILS_GRAPH)
+    Optional<Task> findWithDetailsById(Long id);
+
+    @EntityGraph(Task.DETAILS_GRAPH)
     List<Task> findAllByUser(User user);
 
-    Page<Task> findAllByUser(User user, Pageable pageable);
+    @Query(LIST_ITEM_SELECT + "WHERE t.user.id = :userId")
+    List<TaskListItemDTO> findListItemsByUserId(@Param("userId") Long userId);
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE t.user.id = :userId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId")
+    Page<TaskListItemDTO> findListItemsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + "WHERE t.id IN :ids")
+    List<TaskListItemDTO> findListItemsByIds(@Param("ids") Collection<Long> ids);
+
+    // Keyset pagination, newest first: the first page, then the rows after a (creationDate, id) cursor.
+    // SQLite sorts NULL dates last, so they follow every dated row and, once reached, are paged by id.
+    @Query(LIST_ITEM_SELECT + "WHERE t.user.id = :userId ORDER BY t.creationDate DESC, t.id DESC")
+    Slice<TaskListItemDTO> findFirstListItemSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + "WHERE t.user.id = :userId "
+            + "AND (t.creationDate < :creationDate OR (t.creationDate = :creationDate AND t.id < :id) "
+            + "OR t.creationDate IS NULL) "
+            + "ORDER BY t.creationDate DESC, t.id DESC")
+    Slice<TaskListItemDTO> findListItemSliceByUserIdAfter(@Param("userId") Long userId,
+            @Param("creationDate") Date creationDate, @Param("id") Long id, Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + "WHERE t.user.id = :userId AND t.creationDate IS NULL AND t.id < :id "
+            + "ORDER BY t.id DESC")
+    Slice<TaskListItemDTO> findListItemSliceByUserIdAfterNullDate(@Param("userId") Long userId,
+            @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE t.user.id = :userId")
+    List<TaskSummaryDTO> findSummariesByUserId(@Param("userId") Long userId);
+
+    @Query(value = SUMMARY_SELECT + "WHERE t.user.id = :userId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId")
+    Page<TaskSummaryDTO> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
 
     @Query("SELECT new com.taskmanager.application.model.dto.TaskResumeDTO(t.id, t.nameOfTask) "
             + "FROM Task t "
             + "WHERE t.user.id = :userId AND t.list IS NULL")
     List<TaskResumeDTO> findTasksResumeWithoutListByUserId(@Param("userId") Long userId);
 
+    @EntityGraph(Task.DETAILS_GRAPH)
     List<Task> findTop5ByUserOrderByCreationDateDesc(User user);
 
     long countByUser(User user);
 
-    List<Task> findAllByTeam(Team team);
+    @Query("SELECT new com.taskmanager.application.model.dto.UserCountDTO(t.user.id, COUNT(t)) "
+            + "FROM Task t WHERE t.user.id IN :userIds GROUP BY t.user.id")
+    List<UserCountDTO> countByUserIds(@Param("userIds") Collection<Long> userIds);
 
-    Page<Task> findAllByTeam(Team team, Pageable pageable);
+    // Id pages for detaching tasks in chunks; a null userId matches every owner
+    @Query("SELECT t.id FROM Task t WHERE t.team.id = :teamId AND (:userId IS NULL OR t.user.id = :userId)")
+    List<Long> findIdsByTeamId(@Param("teamId") Long teamId, @Param("userId") Long userId, Pageable pageable);
 
-    @Query("SELECT t FROM Task t WHERE t.team = :team AND t.user = :user")
-    List<Task> findAllByTeamAndUser(@Param("team") Team team, @Param("user") User user);
+    @Query("SELECT t.id FROM Task t WHERE t.list.id = :listId")
+    List<Long> findIdsByListId(@Param("listId") Long listId, Pageable pageable);
 
-    @Query("SELECT t FROM Task t WHERE t.team = :team AND t.user = :user")
-    Page<Task> findAllByTeamAndUser(@Param("team") Team team, @Param("user") User user, Pageable pageable);
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.team.id = :teamId")
+    long countByTeamId(@Param("teamId") Long teamId);
 
-    @Query("SELECT t FROM Task t WHERE t.team = :team "
-            + "AND (:owner IS NULL OR t.user = :owner) "
-            + "AND (:state IS NULL OR t.state = :state) "
-            + "AND (:priority IS NULL OR t.priority = :priority)")
-    List<Task> findTeamTasksFiltered(
-            @Param("team") Team team,
-            @Param("owner") User owner,
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.list.id = :listId")
+    long countByListId(@Param("listId") Long listId);
+
+    /**
+     * Team task list view. A null owner, state or priority leaves that filter out.
+     */
+    @Query(LIST_ITEM_SELECT + TEAM_FILTER)
+    List<TaskListItemDTO> findTeamListItems(
+            @Param("teamId") Long teamId,
+            @Param("ownerId") Long ownerId,
             @Param("state") StateTask state,
             @Param("priority") PriorityTask priority);
 
-    @Query("SELECT t FROM Task t WHERE t.team = :team "
-            + "AND (:owner IS NULL OR t.user = :owner) "
-            + "AND (:state IS NULL OR t.state = :state) "
-            + "AND (:priority IS NULL OR t.priority = :priority)")
-    Page<Task> findTeamTasksFiltered(
-            @Param("team") Team team,
-            @Param("owner") User owner,
+    @Query(value = LIST_ITEM_SELECT + TEAM_FILTER,
+            countQuery = "SELECT COUNT(t) FROM Task t " + TEAM_FILTER)
+    Page<TaskListItemDTO> findTeamListItems(
+            @Param("teamId") Long teamId,
+            @Param("ownerId") Long ownerId,
             @Param("state") StateTask state,
             @Param("priority") PriorityTask priority,
             Pageable pageable);
 
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.team = :team AND t.user = :user AND t.state NOT IN (:excludedStates)")
-    long countPendingByTeamAndUser(@Param("team") Team team, @Param("user") User user, @Param("excludedStates") List<StateTask> excludedStates);
+    /**
+     * Task counts of a team grouped by owner and state; the team dashboard derives all its numbers from this.
+     */
+    @Query("SELECT new com.taskmanager.application.model.dto.TaskStateCountDTO(t.user.id, t.state, COUNT(t)) "
+            + "FROM Task t WHERE t.team.id = :teamId GROUP BY t.user.id, t.state")
+    List<TaskStateCountDTO> countByTeamGroupedByUserAndState(@Param("teamId") Long teamId);
+
+    // ===== Bulk operations: callers pass ids in chunks and check ownership first =====
+
+    @Query("SELECT new com.taskmanager.application.model.dto.TaskOwnershipDTO(t.id, u.id, tm.id) "
+            + "FROM Task t LEFT JOIN t.user u LEFT JOIN t.team tm WHERE t.id IN :ids")
+    List<TaskOwnershipDTO> findOwnershipByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.state = :state WHERE t.id IN :ids")
+    int updateStateByIdIn(@Param("state") StateTask state, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.priority = :priority WHERE t.id IN :ids")
+    int updatePriorityByIdIn(@Param("priority") PriorityTask priority, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.list = :list WHERE t.id IN :ids")
+    int updateListByIdIn(@Param("list") ListTM list, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.team = :team WHERE t.id IN :ids")
+    int updateTeamByIdIn(@Param("team") Team team, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.team = NULL WHERE t.id IN :ids")
+    int clearTeamByIdIn(@Param("ids") Collection<Long> ids);
 
-    long countByTeam(Team team);
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.list = NULL WHERE t.id IN :ids")
+    int clearListByIdIn(@Param("ids") Collection<Long> ids);
 
-    long countByTeamAndState(Team team, StateTask state);
+    @Query("SELECT e.id FROM Task t JOIN t.eventTask e WHERE t.id IN :ids")
+    List<Long> findEventIdsByIdIn(@Param("ids") Collection<Long> ids);
 
-    @Query("SELECT t FROM Task t WHERE t.user = :user AND LOWER(t.nameOfTask) LIKE LOWER(CONCAT('%', :name, '%'))")
-    Page<Task> findByUserAndNameContaining(@Param("user") User user, @Param("name") String name, Pageable pageable);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -4,10 +4,15 @@ import com.taskmanager.application.model.entities.InvitationStatus;
 import com.taskmanager.application.model.entities.Team;
 import com.taskmanager.application.model.entities.TeamInvitation;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -22,4 +27,14 @@ public interface TeamInvitationRepository extends JpaRepository<TeamInvitation,
     List<TeamInvitation> findAllByTeamAndStatus(Team team, InvitationStatus status);
 
     Optional<TeamInvitation> findByToken(String token);
+
+    @Query("SELECT i.id FROM TeamInvitation i WHERE (i.status <> :pending AND i.respondedDate < :respondedCutoff) "
+            + "OR (i.status = :pending AND i.createdDate < :pendingCutoff) ORDER BY i.id")
+    List<Long> findIdsToPurge(@Param("pending") InvitationStatus pending,
+            @Param("respondedCutoff") Date respondedCutoff, @Param("pendingCutoff") Date pendingCutoff,
+            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TeamInvitation i WHERE i.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
@@ -1,13 +1,18 @@
 package com.taskmanager.application.respository;
 
+import com.taskmanager.application.model.dto.TeamMemberDTO;
+import com.taskmanager.application.model.dto.UserCountDTO;
 import com.taskmanager.application.model.entities.Team;
 import com.taskmanager.application.model.entities.TeamMember;
 import com.taskmanager.application.model.entities.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -20,4 +25,13 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     List<TeamMember> findAllByUser(User user);
 
     boolean existsByTeamAndUser(Team team, User user);
+
+    // Members joined with their users in one query; loading User entities would also load their eager roles one by one
+    @Query("SELECT new com.taskmanager.application.model.dto.TeamMemberDTO(m.id, u.id, u.username, u.email, m.role, m.joinedDate) "
+            + "FROM TeamMember m JOIN m.user u WHERE m.team.id = :teamId ORDER BY m.id")
+    List<TeamMemberDTO> findMemberDTOsByTeamId(@Param("teamId") Long teamId);
+
+    @Query("SELECT new com.taskmanager.application.model.dto.UserCountDTO(m.user.id, COUNT(m)) "
+            + "FROM TeamMember m WHERE m.user.id IN :userIds GROUP BY m.user.id")
+    List<UserCountDTO> countByUserIds(@Param("userIds") Collection<Long> userIds);
 }
@@ -11,16 +11,24 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Read-only so that lookups made outside a service transaction (login, registration) use a reader connection
+    @Transactional(readOnly = true)
     Optional<User> findByUsername(String username);
 
+    @Transactional(readOnly = true)
     Optional<User> findByEmail(String email);
 
     boolean existsByUsername(String username);
 
+    @Query("SELECT u.id FROM User u WHERE u.blocked = true")
+    List<Long> findBlockedUserIds();
+
+    // Only for queries shorter than a trigram; longer ones use the user_search index (FullTextSearchRepository)
     @Query("SELECT u FROM User u WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(u.email) LIKE LOWER(CONCAT('%', :query, '%'))")
     List<User> searchUsers(@Param("query") String query);
 
@@ -0,0 +1,95 @@
+package com.taskmanager.application.security;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.taskmanager.application.model.entities.User;
+
+/**
+ * Lightweight principal placed in the security context by {@link JWTAuthorizationFilter}.
+ *
+ * It is built once from the {@link User} when a session is loaded and carries
+ * only what request handling needs: the user id, username, blocked flag and the
+ * authorities, precomputed so that {@link #hasAuthority(String)} is a plain set
+ * lookup. Services that only need the current user's id can use it without
+ * loading the entity.
+ */
+public final class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final boolean blocked;
+    private final Set<GrantedAuthority> authorities;
+    private final Set<String> authorityNames;
+
+    private AuthenticatedUser(Long id, String username, boolean blocked, Set<GrantedAuthority> authorities) {
+        this.id = id;
+        this.username = username;
+        this.blocked = blocked;
+        this.authorities = Set.copyOf(authorities);
+        Set<String> names = new HashSet<>();
+        for (GrantedAuthority authority : authorities) {
+            names.add(authority.getAuthority());
+        }
+        this.authorityNames = Set.copyOf(names);
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.isBlocked(),
+                new HashSet<>(user.getAuthorities()));
+    }
+
+    /**
+     * Rebuilds the principal from access-token claims. Blocked users never obtain
+     * new tokens, so a principal built this way is never blocked.
+     */
+    public static AuthenticatedUser of(Long id, String username, Collection<String> authorityNames) {
+        Set<GrantedAuthority> authorities = new HashSet<>();
+        for (String authorityName : authorityNames) {
+            authorities.add(new SimpleGrantedAuthority(authorityName));
+        }
+        return new AuthenticatedUser(id, username, false, authorities);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    public boolean isBlocked() {
+        return blocked;
+    }
+
+    public boolean hasAuthority(String authority) {
+        return authorityNames.contains(authority);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return !blocked;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
@@ -1,8 +1,7 @@
 package com.taskmanager.application.security;
 
 import com.nimbusds.jwt.JWTClaimsSet;
-import com.taskmanager.application.model.entities.AuthSession;
-import com.taskmanager.application.service.CustomUserDetailsService;
+import com.taskmanager.application.config.TaskManagerSecurityProperties;
 import com.taskmanager.application.service.JWTUtilityService;
 import com.taskmanager.application.service.SessionService;
 
@@ -21,7 +20,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -45,15 +43,24 @@ public class JWTAuthorizationFilter extends OncePerRequestFilter {
     @Autowired
     private JWTUtilityService jwtUtilityService;
 
-    @Autowired
-    private CustomUserDetailsService customUserDetailsService;
-
     @Autowired
     private SessionCookieService sessionCookieService;
 
     @Autowired
     private SessionService sessionService;
 
+    @Autowired
+    private SessionValidationCache sessionValidationCache;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private SessionActivityTracker sessionActivityTracker;
+
+    @Autowired
+    private TaskManagerSecurityProperties securityProperties;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         logger.debug("JWT filter: {} {}", request.getMethod(), request.getRequestURI());
@@ -74,7 +81,28 @@ public class JWTAuthorizationFilter extends OncePerRequestFilter {
             String sid = (String) claims.getClaim("sid");
             logger.debug("JWT filter: token valid for user={}, sid={}", username, sid);
 
-            AuthSession session = sessionService.getSessionByIdentifier(sid);
+            // Tokens issued before the uid/auth claims existed go through the session lookup below
+            Long uid = claims.getLongClaim("uid");
+            if (securityProperties.getAccessToken().isStateless() && uid != null) {
+                if (tokenRevocationRegistry.isRevoked(sid, uid, claims.getIssueTime())) {
+                    logger.warn("JWT filter: access token of session {} has been revoked", sid);
+                    setResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Session is no longer valid");
+                    return;
+                }
+
+                List<String> authorities = claims.getStringListClaim("auth");
+                AuthenticatedUser principal = AuthenticatedUser.of(uid, username,
+                        authorities != null ? authorities : List.of());
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+                sessionActivityTracker.recordActivity(sid);
+                logger.debug("JWT filter: authentication set for {} from token claims", username);
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            SessionValidationCache.CachedSession session = sessionValidationCache.get(sid, sessionService::getSessionByIdentifier);
             if (session == null) {
                 logger.warn("JWT filter: session {} not found in DB", sid);
                 setResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Session is no longer valid");
@@ -86,16 +114,23 @@ public class JWTAuthorizationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+            // The session already carries its user, no need for a second lookup by username
+            AuthenticatedUser principal = session.principal();
+            if (!principal.getUsername().equals(username)) {
+                logger.warn("JWT filter: token subject {} does not match owner of session {}", username, sid);
+                setResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Session is no longer valid");
+                return;
+            }
 
-            if (!userDetails.isAccountNonLocked()) {
+            if (principal.isBlocked()) {
                 logger.warn("JWT filter: blocked user {}", username);
                 setResponse(response, HttpServletResponse.SC_FORBIDDEN, "Your account has been blocked. Contact an administrator.");
                 return;
             }
 
-            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            sessionActivityTracker.recordActivity(sid);
 
             logger.debug("JWT filter: authentication set for {}", username);
         } catch (Exception e) {
@@ -0,0 +1,310 @@
+package com.taskmanager.application.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+
+import jakarta.annotation.PostConstruct;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Holds the keys used to sign and verify access tokens.
+ *
+ * Keys are read from {@code jwtKeys.*Path} once and kept in memory together with
+ * their signer/verifier, so token handling never touches the disk. RSA (RS256),
+ * P-256 EC (ES256) and Ed25519 (EdDSA) keys are supported; the signing algorithm
+ * is chosen by the type of the configured key pair. Every key is
+ * identified by a {@code kid} (its JWK thumbprint) that is written to the token
+ * header, which lets old tokens keep verifying after a rotation as long as the
+ * previous public key is listed in {@code jwtKeys.additionalPublicKeyPaths}.
+ * The files are polled for changes and the ring is swapped atomically on reload.
+ */
+@Component
+public class JWTKeyRing {
+
+    private static final Logger logger = LoggerFactory.getLogger(JWTKeyRing.class);
+
+    private static final List<String> SUPPORTED_KEY_ALGORITHMS = List.of("RSA", "EC", "Ed25519");
+
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    @Value("${jwtKeys.privateKeyPath}")
+    private Resource privateKeyResource;
+
+    @Value("${jwtKeys.publicKeyPath}")
+    private Resource publicKeyResource;
+
+    @Value("${jwtKeys.additionalPublicKeyPaths:}")
+    private String additionalPublicKeyPaths;
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void init() {
+        this.snapshot = load();
+        logger.info("JWT key ring loaded: active kid={}, {} verification key(s)",
+                snapshot.active().keyId(), snapshot.verificationKeys().size());
+    }
+
+    public SigningKey getActiveKey() {
+        return snapshot.active();
+    }
+
+    /**
+     * Returns the verifiers to try for a token header. A {@code kid} selects its
+     * key. Tokens issued before key ids were written to the header carry none;
+     * those are tried against every key of the header's algorithm, so RS256 tokens
+     * from before a switch to ES256 or EdDSA keep verifying while the old RSA public
+     * key is listed in {@code jwtKeys.additionalPublicKeyPaths}.
+     */
+    public List<JWSVerifier> getVerifiers(JWSHeader header) throws JOSEException {
+        Snapshot current = snapshot;
+        String keyId = header.getKeyID();
+        if (StringUtils.hasText(keyId)) {
+            SigningKey key = current.verificationKeys().get(keyId);
+            if (key == null) {
+                throw new JOSEException("Unknown signing key: " + keyId);
+            }
+            return List.of(key.verifier());
+        }
+        List<JWSVerifier> verifiers = current.verificationKeys().values().stream()
+                .filter(key -> key.algorithm().equals(header.getAlgorithm()))
+                .map(SigningKey::verifier)
+                .toList();
+        if (verifiers.isEmpty()) {
+            throw new JOSEException("No signing key for algorithm: " + header.getAlgorithm());
+        }
+        return verifiers;
+    }
+
+    public Collection<SigningKey> getVerificationKeys() {
+        return Collections.unmodifiableCollection(snapshot.verificationKeys().values());
+    }
+
+    @Scheduled(fixedDelayString = "${jwtKeys.reloadCheckInterval:30000}",
+            initialDelayString = "${jwtKeys.reloadCheckInterval:30000}")
+    public void reloadIfChanged() {
+        Snapshot current = snapshot;
+        if (current.fingerprint().equals(fingerprint())) {
+            return;
+        }
+
+        try {
+            Snapshot reloaded = load();
+            this.snapshot = reloaded;
+            logger.info("JWT key files changed, key ring reloaded: active kid={}, {} verification key(s)",
+                    reloaded.active().keyId(), reloaded.verificationKeys().size());
+        } catch (RuntimeException e) {
+            // Keep serving with the previous keys; a half-written file must not lock everybody out
+            logger.error("Could not reload JWT keys, keeping previous key ring: {}", e.getMessage(), e);
+        }
+    }
+
+    private Snapshot load() {
+        String fingerprint = fingerprint();
+        try {
+            PublicKey publicKey = readPublicKey(publicKeyResource);
+            PrivateKey privateKey = readPrivateKey(privateKeyResource, keyFactoryAlgorithm(publicKey));
+            SigningKey verificationKey = toVerificationKey(publicKey);
+            SigningKey active = new SigningKey(verificationKey.keyId(), verificationKey.algorithm(),
+                    toSigner(privateKey, publicKey), verificationKey.verifier());
+
+            Map<String, SigningKey> verificationKeys = new LinkedHashMap<>();
+            verificationKeys.put(active.keyId(), active);
+            for (Resource resource : additionalPublicKeyResources()) {
+                SigningKey additional = toVerificationKey(readPublicKey(resource));
+                verificationKeys.putIfAbsent(additional.keyId(), additional);
+            }
+
+            return new Snapshot(active, Map.copyOf(verificationKeys), fingerprint);
+        } catch (IOException | GeneralSecurityException | JOSEException e) {
+            throw new IllegalStateException("Error loading JWT keys", e);
+        }
+    }
+
+    private List<Resource> additionalPublicKeyResources() {
+        List<Resource> resources = new ArrayList<>();
+        if (!StringUtils.hasText(additionalPublicKeyPaths)) {
+            return resources;
+        }
+        for (String location : StringUtils.commaDelimitedListToStringArray(additionalPublicKeyPaths)) {
+            if (StringUtils.hasText(location)) {
+                resources.add(resourceLoader.getResource(location.trim()));
+            }
+        }
+        return resources;
+    }
+
+    /**
+     * Cheap change detector based on the last-modified time of every key file.
+     */
+    private String fingerprint() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(lastModified(privateKeyResource)).append(':').append(lastModified(publicKeyResource));
+        for (Resource resource : additionalPublicKeyResources()) {
+            builder.append(':').append(lastModified(resource));
+        }
+        return builder.toString();
+    }
+
+    private long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Builds the verification half of a key. The JWS algorithm follows from the key
+     * type: RSA keys sign with RS256, P-256 EC keys with ES256 and Ed25519 keys with
+     * EdDSA. The {@code kid} is the JWK thumbprint of the public key.
+     */
+    private SigningKey toVerificationKey(PublicKey publicKey) throws JOSEException {
+        if (publicKey instanceof RSAPublicKey rsaPublicKey) {
+            String keyId = new RSAKey.Builder(rsaPublicKey).build().computeThumbprint().toString();
+            return new SigningKey(keyId, JWSAlgorithm.RS256, null, new RSASSAVerifier(rsaPublicKey));
+        }
+        if (publicKey instanceof ECPublicKey ecPublicKey) {
+            Curve curve = Curve.forECParameterSpec(ecPublicKey.getParams());
+            if (!Curve.P_256.equals(curve)) {
+                throw new JOSEException("Unsupported EC curve for JWT keys, expected P-256: " + curve);
+            }
+            String keyId = new ECKey.Builder(curve, ecPublicKey).build().computeThumbprint().toString();
+            return new SigningKey(keyId, JWSAlgorithm.ES256, null, new ECDSAVerifier(ecPublicKey));
+        }
+        if (publicKey instanceof EdECPublicKey) {
+            OctetKeyPair jwk = ed25519Jwk(publicKey, null);
+            return new SigningKey(jwk.computeThumbprint().toString(), JWSAlgorithm.EdDSA, null,
+                    new Ed25519Verifier(jwk));
+        }
+        throw new JOSEException("Unsupported JWT key type: " + publicKey.getAlgorithm());
+    }
+
+    private JWSSigner toSigner(PrivateKey privateKey, PublicKey publicKey) throws JOSEException {
+        if (privateKey instanceof ECPrivateKey ecPrivateKey) {
+            return new ECDSASigner(ecPrivateKey);
+        }
+        if (publicKey instanceof EdECPublicKey) {
+            return new Ed25519Signer(ed25519Jwk(publicKey, privateKey));
+        }
+        return new RSASSASigner(privateKey);
+    }
+
+    /**
+     * Nimbus works with raw Ed25519 keys. They are the last 32 bytes of the X.509
+     * public key encoding and bytes 16-48 of the PKCS#8 private key encoding.
+     */
+    private OctetKeyPair ed25519Jwk(PublicKey publicKey, PrivateKey privateKey) throws JOSEException {
+        byte[] encodedPublic = publicKey.getEncoded();
+        byte[] x = Arrays.copyOfRange(encodedPublic, encodedPublic.length - ED25519_KEY_LENGTH, encodedPublic.length);
+        OctetKeyPair.Builder builder = new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(x));
+        if (privateKey != null) {
+            byte[] d = Arrays.copyOfRange(privateKey.getEncoded(), 16, 16 + ED25519_KEY_LENGTH);
+            builder.d(Base64URL.encode(d));
+        }
+        return builder.build();
+    }
+
+    private String keyFactoryAlgorithm(PublicKey publicKey) {
+        if (publicKey instanceof ECPublicKey) {
+            return "EC";
+        }
+        if (publicKey instanceof EdECPublicKey) {
+            return "Ed25519";
+        }
+        return "RSA";
+    }
+
+    private PrivateKey readPrivateKey(Resource resource, String keyFactoryAlgorithm) throws IOException, GeneralSecurityException {
+        byte[] decoded = decodePem(resource, "PRIVATE KEY");
+        return KeyFactory.getInstance(keyFactoryAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(decoded));
+    }
+
+    /**
+     * Reads an X.509 public key of any supported type; the encoding carries the
+     * algorithm, so each key factory is tried in turn.
+     */
+    private PublicKey readPublicKey(Resource resource) throws IOException, GeneralSecurityException {
+        byte[] decoded = decodePem(resource, "PUBLIC KEY");
+        for (String algorithm : SUPPORTED_KEY_ALGORITHMS) {
+            try {
+                return KeyFactory.getInstance(algorithm).generatePublic(new X509EncodedKeySpec(decoded));
+            } catch (InvalidKeySpecException e) {
+                // Not a key of this type, try the next one
+            }
+        }
+        throw new InvalidKeySpecException("Unsupported public key in " + resource.getDescription());
+    }
+
+    private byte[] decodePem(Resource resource, String type) throws IOException {
+        String pem;
+        try (InputStream inputStream = resource.getInputStream()) {
+            pem = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String body = pem
+                .replace("-----BEGIN " + type + "-----", "")
+                .replace("-----END " + type + "-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+
+    /**
+     * A key of the ring. {@code signer} is only present for the active key.
+     */
+    public record SigningKey(String keyId, JWSAlgorithm algorithm, JWSSigner signer, JWSVerifier verifier) {
+
+    }
+
+    private record Snapshot(SigningKey active, Map<String, SigningKey> verificationKeys, String fingerprint) {
+
+    }
+}
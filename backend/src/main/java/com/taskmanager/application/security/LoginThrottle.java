@@ -0,0 +1,163 @@
+package com.taskmanager.application.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.application.config.TaskManagerSecurityProperties;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+/**
+ * Brute-force protection for password logins.
+ *
+ * Failed attempts are counted per username and per client IP with a sliding
+ * window (the current and previous window, weighted), which needs two counters
+ * per key. Past the free attempts every further attempt must wait an exponentially
+ * growing delay after the last failure, and past the lockout threshold the key is
+ * locked until the window has elapsed. Rejections happen before the user is loaded
+ * or BCrypt runs. Keys live in a size-bounded cache, so spraying many usernames
+ * evicts old counters instead of growing memory; the per-IP counter still applies.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottle.class);
+
+    @Autowired
+    private TaskManagerSecurityProperties securityProperties;
+
+    private Cache<String, SlidingWindow> windows;
+
+    @PostConstruct
+    public void init() {
+        TaskManagerSecurityProperties.LoginThrottle properties = securityProperties.getLoginThrottle();
+        windows = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterAccess(properties.getWindow().multipliedBy(2))
+                .build();
+    }
+
+    /**
+     * Throws 429 if the username or the client IP has to wait before trying again.
+     */
+    public void checkAllowed(String username, String clientIp) {
+        TaskManagerSecurityProperties.LoginThrottle properties = securityProperties.getLoginThrottle();
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long usernameWait = waitMillis(usernameKey(username), properties.getUsernameFreeAttempts(),
+                properties.getUsernameLockoutAttempts(), now);
+        long ipWait = waitMillis(ipKey(clientIp), properties.getIpFreeAttempts(),
+                properties.getIpLockoutAttempts(), now);
+        long wait = Math.max(usernameWait, ipWait);
+        if (wait > 0) {
+            long seconds = Math.max(1, (wait + 999) / 1000);
+            logger.warn("Login throttled for user {} from {} ({} s)", username, clientIp, seconds);
+            throw new ResponseStatusException(TOO_MANY_REQUESTS,
+                    "Too many failed login attempts. Try again in " + seconds + " seconds.");
+        }
+    }
+
+    public void recordFailure(String username, String clientIp) {
+        if (!securityProperties.getLoginThrottle().isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long windowMillis = securityProperties.getLoginThrottle().getWindow().toMillis();
+        windows.get(usernameKey(username), key -> new SlidingWindow(now)).recordFailure(now, windowMillis);
+        windows.get(ipKey(clientIp), key -> new SlidingWindow(now)).recordFailure(now, windowMillis);
+    }
+
+    /**
+     * Clears the username counter. The IP counter is kept so that one valid account
+     * cannot be used to reset the throttle of an address guessing other passwords.
+     */
+    public void recordSuccess(String username) {
+        windows.invalidate(usernameKey(username));
+    }
+
+    private long waitMillis(String key, int freeAttempts, int lockoutAttempts, long now) {
+        SlidingWindow window = windows.getIfPresent(key);
+        if (window == null) {
+            return 0;
+        }
+
+        TaskManagerSecurityProperties.LoginThrottle properties = securityProperties.getLoginThrottle();
+        long windowMillis = properties.getWindow().toMillis();
+        int failures = window.failures(now, windowMillis);
+        long lastFailureAt = window.lastFailureAt();
+
+        if (failures >= lockoutAttempts) {
+            return lastFailureAt + windowMillis - now;
+        }
+        if (failures > freeAttempts) {
+            int exponent = Math.min(failures - freeAttempts - 1, 20);
+            long delay = Math.min(properties.getMaxDelay().toMillis(), properties.getBaseDelay().toMillis() << exponent);
+            return lastFailureAt + delay - now;
+        }
+        return 0;
+    }
+
+    private String usernameKey(String username) {
+        return "user:" + (username != null ? username.trim().toLowerCase(Locale.ROOT) : "");
+    }
+
+    private String ipKey(String clientIp) {
+        return "ip:" + (clientIp != null ? clientIp : "");
+    }
+
+    /**
+     * Sliding-window counter approximated from the current and previous fixed windows.
+     */
+    private static final class SlidingWindow {
+
+        private long windowStart;
+        private int current;
+        private int previous;
+        private long lastFailureAt;
+
+        private SlidingWindow(long now) {
+            this.windowStart = now;
+        }
+
+        synchronized void recordFailure(long now, long windowMillis) {
+            roll(now, windowMillis);
+            current++;
+            lastFailureAt = now;
+        }
+
+        synchronized int failures(long now, long windowMillis) {
+            roll(now, windowMillis);
+            double previousWeight = 1.0 - (double) (now - windowStart) / windowMillis;
+            return (int) Math.ceil(previous * previousWeight + current);
+        }
+
+        synchronized long lastFailureAt() {
+            return lastFailureAt;
+        }
+
+        private void roll(long now, long windowMillis) {
+            long elapsedWindows = (now - windowStart) / windowMillis;
+            if (elapsedWindows == 1) {
+                previous = current;
+                current = 0;
+                windowStart += windowMillis;
+            } else if (elapsedWindows > 1) {
+                previous = 0;
+                current = 0;
+                windowStart = now;
+            }
+        }
+    }
+}
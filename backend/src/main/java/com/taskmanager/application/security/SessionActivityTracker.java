@@ -0,0 +1,85 @@
+package com.taskmanager.application.security;
+
+import jakarta.annotation.PreDestroy;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Write-behind tracker for {@code auth_session.last_used_at}.
+ *
+ * {@link JWTAuthorizationFilter} records every authenticated request here; hits of
+ * the same session are coalesced in memory, keeping only the latest timestamp, and
+ * flushed periodically in a single transaction as JDBC batches of
+ * {@value #FLUSH_BATCH_SIZE} updates. This keeps per-request activity
+ * off SQLite's single writer while still letting admins see when a session was
+ * really last used, give or take one flush interval.
+ */
+@Component
+public class SessionActivityTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionActivityTracker.class);
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    // Never moves last_used_at backwards, e.g. past a refresh that set it meanwhile
+    private static final String UPDATE_LAST_USED_AT =
+            "UPDATE auth_session SET last_used_at = ? WHERE session_identifier = ? AND last_used_at < ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+    public void recordActivity(String sessionIdentifier) {
+        if (sessionIdentifier != null) {
+            pending.merge(sessionIdentifier, System.currentTimeMillis(), Math::max);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.security.session-activity.flush-interval:30000}",
+            initialDelayString = "${taskmanager.security.session-activity.flush-interval:30000}")
+    @Transactional
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(pending.entrySet());
+        for (Map.Entry<String, Long> entry : entries) {
+            // Only drop the entry if no newer hit arrived meanwhile; a newer one is flushed next time
+            pending.remove(entry.getKey(), entry.getValue());
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_LAST_USED_AT, entries, FLUSH_BATCH_SIZE, (ps, entry) -> {
+            Timestamp lastUsedAt = new Timestamp(entry.getValue());
+            ps.setTimestamp(1, lastUsedAt);
+            ps.setString(2, entry.getKey());
+            ps.setTimestamp(3, lastUsedAt);
+        });
+        // Drivers may report SUCCESS_NO_INFO (-2) instead of a row count
+        int updated = Arrays.stream(counts).flatMapToInt(Arrays::stream).filter(count -> count > 0).sum();
+        logger.debug("Flushed activity of {} session(s), {} row(s) updated", entries.size(), updated);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.warn("Could not flush session activity on shutdown: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.taskmanager.application.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.application.config.TaskManagerSecurityProperties;
+import com.taskmanager.application.model.entities.AuthSession;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.Date;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Short-lived cache of validated sessions keyed by session identifier ({@code sid}).
+ *
+ * It keeps {@link JWTAuthorizationFilter} from reading {@code auth_session} and the
+ * user on every request. Entries are evicted as soon as a session is revoked,
+ * refreshed or its user is blocked; the TTL only bounds how long a change made
+ * outside those paths can go unnoticed. Hit/miss counters are published as
+ * {@code cache.*} metrics with {@code cache=authSessions}.
+ */
+@Component
+public class SessionValidationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionValidationCache.class);
+
+    private static final String CACHE_NAME = "authSessions";
+
+    @Autowired
+    private TaskManagerSecurityProperties securityProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, CachedSession> cache;
+
+    @PostConstruct
+    public void init() {
+        TaskManagerSecurityProperties.SessionCache properties = securityProperties.getSessionCache();
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        logger.info("Session validation cache {} (ttl={}, maximumSize={})",
+                properties.isEnabled() ? "enabled" : "disabled", properties.getTtl(), properties.getMaximumSize());
+    }
+
+    /**
+     * Returns the cached session, loading it with {@code loader} on a miss. A loader
+     * returning {@code null} (unknown session) is not cached.
+     */
+    public CachedSession get(String sessionIdentifier, Function<String, AuthSession> loader) {
+        if (!securityProperties.getSessionCache().isEnabled()) {
+            AuthSession session = loader.apply(sessionIdentifier);
+            return session != null ? CachedSession.from(session) : null;
+        }
+
+        return cache.get(sessionIdentifier, sid -> {
+            AuthSession session = loader.apply(sid);
+            return session != null ? CachedSession.from(session) : null;
+        });
+    }
+
+    public void invalidate(String sessionIdentifier) {
+        if (sessionIdentifier == null) {
+            return;
+        }
+        cache.invalidate(sessionIdentifier);
+        // Evict again once the change is committed, so a concurrent request cannot
+        // re-populate the entry from the pre-commit state
+        afterCommit(() -> cache.invalidate(sessionIdentifier));
+        logger.debug("Session {} evicted from validation cache", sessionIdentifier);
+    }
+
+    public void invalidateUser(String username) {
+        if (username == null) {
+            return;
+        }
+        Runnable eviction = () -> cache.asMap().values()
+                .removeIf(entry -> username.equals(entry.principal().getUsername()));
+        eviction.run();
+        afterCommit(eviction);
+        logger.debug("Sessions of user {} evicted from validation cache", username);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        afterCommit(cache::invalidateAll);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Immutable view of a session and its user, detached from the persistence context.
+     */
+    public record CachedSession(String sessionIdentifier, Date expiresAt, Date revokedAt, AuthenticatedUser principal) {
+
+        static CachedSession from(AuthSession session) {
+            return new CachedSession(session.getSessionIdentifier(), session.getExpiresAt(),
+                    session.getRevokedAt(), AuthenticatedUser.from(session.getUser()));
+        }
+
+        public boolean isActive(Date now) {
+            return revokedAt == null && expiresAt != null && expiresAt.after(now);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskmanager.application.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.application.config.TaskManagerSecurityProperties;
+import com.taskmanager.application.respository.AuthSessionRepository;
+import com.taskmanager.application.respository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.Date;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory record of revoked sessions and blocked users, used to reject access
+ * tokens in stateless mode without reading {@code auth_session}.
+ *
+ * An access token cannot outlive its TTL, so every entry is only kept for one
+ * access-token TTL after the revocation; the set therefore stays proportional to
+ * the revocations of the last few minutes. It is rebuilt from
+ * {@code auth_session.revoked_at} and the blocked users at startup.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+    @Autowired
+    private TaskManagerSecurityProperties securityProperties;
+
+    @Autowired
+    private AuthSessionRepository authSessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Cache<String, Boolean> revokedSessions;
+
+    private Cache<Long, Date> revokedUsers;
+
+    private volatile Date globalRevokedAt;
+
+    @PostConstruct
+    public void init() {
+        revokedSessions = Caffeine.newBuilder()
+                .expireAfterWrite(securityProperties.getAccessToken().getTtl())
+                .build();
+        revokedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(securityProperties.getAccessToken().getTtl())
+                .build();
+        rebuild();
+    }
+
+    public void rebuild() {
+        Date now = new Date();
+        Date since = new Date(now.getTime() - securityProperties.getAccessToken().getTtl().toMillis());
+
+        List<String> sessionIdentifiers = authSessionRepository.findSessionIdentifiersRevokedSince(since);
+        sessionIdentifiers.forEach(sid -> revokedSessions.put(sid, Boolean.TRUE));
+
+        // The moment a user was blocked is not stored, so treat every token issued before startup as revoked
+        List<Long> blockedUserIds = userRepository.findBlockedUserIds();
+        blockedUserIds.forEach(userId -> revokedUsers.put(userId, now));
+
+        logger.info("Token revocation registry rebuilt: {} revoked session(s), {} blocked user(s)",
+                sessionIdentifiers.size(), blockedUserIds.size());
+    }
+
+    public void revokeSession(String sessionIdentifier) {
+        if (sessionIdentifier != null) {
+            revokedSessions.put(sessionIdentifier, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Rejects every token of the user issued up to now.
+     */
+    public void revokeUser(Long userId) {
+        if (userId != null) {
+            revokedUsers.put(userId, new Date());
+        }
+    }
+
+    /**
+     * Rejects every token issued up to now, whoever it belongs to.
+     */
+    public void revokeAll() {
+        globalRevokedAt = new Date();
+    }
+
+    public boolean isRevoked(String sessionIdentifier, Long userId, Date issuedAt) {
+        if (sessionIdentifier == null || revokedSessions.getIfPresent(sessionIdentifier) != null) {
+            return true;
+        }
+        Date allRevokedAt = globalRevokedAt;
+        if (allRevokedAt != null && (issuedAt == null || !issuedAt.after(allRevokedAt))) {
+            return true;
+        }
+        Date userRevokedAt = userId != null ? revokedUsers.getIfPresent(userId) : null;
+        return userRevokedAt != null && (issuedAt == null || !issuedAt.after(userRevokedAt));
+    }
+}
@@ -1,9 +1,11 @@
 package com.taskmanager.application.service;
 
+import com.taskmanager.application.model.dto.AdminUserDTO;
 import com.taskmanager.application.model.entities.AppConfig;
 import com.taskmanager.application.model.entities.User;
 import com.taskmanager.application.model.exceptions.ResourceNotFoundException;
 import com.taskmanager.application.respository.AppConfigRepository;
+import com.taskmanager.application.respository.FullTextSearchRepository;
 import com.taskmanager.application.respository.ListRepository;
 import com.taskmanager.application.respository.TaskRepository;
 import com.taskmanager.application.respository.TeamMemberRepository;
@@ -13,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,8 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class AdminService {
@@ -34,6 +37,11 @@ public class AdminService {
     private static final String SYSTEM_MESSAGE_BEFORE_LOGIN_KEY = "system.message.beforeLogin";
     private static final String SYSTEM_MESSAGE_AFTER_LOGIN_KEY = "system.message.afterLogin";
 
+    private static final int COUNT_CHUNK_SIZE = 500;
+
+    // Best-ranked users returned by the non-paged typeahead search
+    private static final int TYPEAHEAD_LIMIT = 50;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -49,57 +57,135 @@ public class AdminService {
     @Autowired
     private AppConfigRepository appConfigRepository;
 
+    @Autowired
+    private FullTextSearchRepository fullTextSearchRepository;
+
+    @Autowired
+    private SessionService sessionService;
+
     // ===== USER MANAGEMENT =====
 
     @Transactional(readOnly = true)
-    public List<Map<String, Object>> searchUsers(String query) {
+    public List<AdminUserDTO> searchUsers(String query) {
         logger.info("Admin searching users with query: {}", query);
         if (query == null || query.trim().isEmpty()) {
             return List.of();
         }
-        List<User> users = userRepository.searchUsers(query.trim());
-        return users.stream().map(this::mapUserToAdminView).collect(Collectors.toList());
+        String trimmed = query.trim();
+        UserMatch match = matchUsers(trimmed);
+        List<User> users = match == null
+                ? userRepository.searchUsers(trimmed)
+                : findUsersInOrder(fullTextSearchRepository.searchUserIds(
+                        trimmed, match.expression(), TYPEAHEAD_LIMIT, 0));
+        return mapUsersToAdminView(users);
     }
 
     @Transactional(readOnly = true)
-    public Page<Map<String, Object>> searchUsers(String query, Pageable pageable) {
+    public Page<AdminUserDTO> searchUsers(String query, Pageable pageable) {
+        Page<User> users;
         if (query == null || query.trim().isEmpty()) {
-            return userRepository.findAllOrderByUsernameAsc(pageable).map(this::mapUserToAdminView);
+            users = userRepository.findAllOrderByUsernameAsc(pageable);
+        } else {
+            String trimmed = query.trim();
+            UserMatch match = matchUsers(trimmed);
+            if (match == null) {
+                users = userRepository.searchUsers(trimmed, pageable);
+            } else {
+                List<User> content = match.total() == 0 ? List.of()
+                        : findUsersInOrder(fullTextSearchRepository.searchUserIds(
+                                trimmed, match.expression(), pageable.getPageSize(), pageable.getOffset()));
+                users = new PageImpl<>(content, pageable, match.total());
+            }
         }
-        return userRepository.searchUsers(query.trim(), pageable).map(this::mapUserToAdminView);
+        return new PageImpl<>(mapUsersToAdminView(users.getContent()), users.getPageable(), users.getTotalElements());
+    }
+
+    /**
+     * Picks the trigram query for a user search: a substring match when there is
+     * one, otherwise the typo-tolerant match. Returns null for queries too short for
+     * the trigram index, which go through the plain LIKE search instead.
+     */
+    private UserMatch matchUsers(String query) {
+        String substring = FullTextSearchRepository.toUserMatchExpression(query);
+        if (substring == null) {
+            return null;
+        }
+        long total = fullTextSearchRepository.countUsers(substring);
+        if (total > 0) {
+            return new UserMatch(substring, total);
+        }
+        String fuzzy = FullTextSearchRepository.toUserFuzzyMatchExpression(query);
+        return fuzzy == null ? new UserMatch(substring, 0) : new UserMatch(fuzzy, fullTextSearchRepository.countUsers(fuzzy));
+    }
+
+    private List<User> findUsersInOrder(List<Long> ids) {
+        Map<Long, User> byId = new HashMap<>();
+        userRepository.findAllById(ids).forEach(user -> byId.put(user.getId(), user));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private record UserMatch(String expression, long total) {
     }
 
     @Transactional(readOnly = true)
-    public Map<String, Object> getUserById(Long userId) throws ResourceNotFoundException {
+    public AdminUserDTO getUserById(Long userId) throws ResourceNotFoundException {
         logger.info("Admin retrieving user with ID: {}", userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        return mapUserToAdminView(user);
+        return mapUsersToAdminView(List.of(user)).get(0);
     }
 
     @Transactional
-    public Map<String, Object> toggleUserBlock(Long userId) throws ResourceNotFoundException {
+    public AdminUserDTO toggleUserBlock(Long userId) throws ResourceNotFoundException {
         logger.info("Admin toggling block status for user ID: {}", userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
         user.setBlocked(!user.isBlocked());
         userRepository.save(user);
+        int revokedSessions = 0;
+        if (user.isBlocked()) {
+            revokedSessions = sessionService.revokeAllSessionsOfUser(user, "USER_BLOCKED").sessions();
+        }
         logger.info("User {} is now {}", user.getUsername(), user.isBlocked() ? "blocked" : "unblocked");
-        return mapUserToAdminView(user);
+        AdminUserDTO view = mapUsersToAdminView(List.of(user)).get(0);
+        view.setRevokedSessions(revokedSessions);
+        return view;
+    }
+
+    @Transactional
+    public Map<String, Object> revokeAllSessions() {
+        logger.warn("Admin revoking all sessions");
+        SessionService.RevocationResult result = sessionService.revokeAllSessions("ADMIN_REVOKE_ALL");
+        Map<String, Object> response = new HashMap<>();
+        response.put("revokedSessions", result.sessions());
+        response.put("revokedRefreshTokens", result.refreshTokens());
+        return response;
     }
 
-    private Map<String, Object> mapUserToAdminView(User user) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", user.getId());
-        map.put("username", user.getUsername());
-        map.put("email", user.getEmail());
-        map.put("blocked", user.isBlocked());
-        map.put("creationDate", user.getCreationDate());
-        map.put("roles", user.getRoles().stream().map(r -> r.getName()).collect(Collectors.toList()));
-        map.put("taskCount", taskRepository.countByUser(user));
-        map.put("listCount", listRepository.countByUser(user));
-        map.put("teamCount", teamMemberRepository.findAllByUser(user).size());
-        return map;
+    /**
+     * Builds the admin rows for a page of users. Task, list and team counts are fetched
+     * with one grouped query each for the whole page, in chunks of {@value #COUNT_CHUNK_SIZE} ids.
+     */
+    private List<AdminUserDTO> mapUsersToAdminView(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        List<Long> userIds = users.stream().map(User::getId).toList();
+        Map<Long, Long> taskCounts = new HashMap<>();
+        Map<Long, Long> listCounts = new HashMap<>();
+        Map<Long, Long> teamCounts = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += COUNT_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + COUNT_CHUNK_SIZE, userIds.size()));
+            taskRepository.countByUserIds(chunk).forEach(row -> taskCounts.put(row.getUserId(), row.getCount()));
+            listRepository.countByUserIds(chunk).forEach(row -> listCounts.put(row.getUserId(), row.getCount()));
+            teamMemberRepository.countByUserIds(chunk).forEach(row -> teamCounts.put(row.getUserId(), row.getCount()));
+        }
+        return users.stream()
+                .map(user -> AdminUserDTO.fromEntity(user,
+                        taskCounts.getOrDefault(user.getId(), 0L),
+                        listCounts.getOrDefault(user.getId(), 0L),
+                        teamCounts.getOrDefault(user.getId(), 0L)))
+                .toList();
     }
 
     // ===== FEATURE FLAGS =====
@@ -6,7 +6,9 @@ import com.taskmanager.application.model.entities.AuthProvider;
 import com.taskmanager.application.model.entities.User;
 import com.taskmanager.application.model.validations.UserValidation;
 import com.taskmanager.application.respository.UserRepository;
+import com.taskmanager.application.security.AuthenticatedUser;
 import com.taskmanager.application.security.OAuth2LoginFailureHandler;
+import com.taskmanager.application.security.UserPrincipal;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -21,9 +23,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class AuthService {
@@ -39,7 +41,17 @@ public class AuthService {
     @Autowired
     private UserValidation userValidation;
 
-    @Transactional(readOnly = true)
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Not transactional on purpose: the user is read in its own read-only
+     * transaction (see UserRepository) and the password is verified with no
+     * connection held, so BCrypt never occupies a database connection.
+     */
     public User authenticate(LoginDTO login) throws Exception {
         logger.info("Attempting login for username: {}", login.getUsername());
 
@@ -64,11 +76,15 @@ public class AuthService {
     }
 
     private boolean verifyPassword(String enteredPassword, String storedPassword) {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        return encoder.matches(enteredPassword, storedPassword);
+        return passwordHashingService.matches(enteredPassword, storedPassword);
     }
 
-    @Transactional
+    /**
+     * The uniqueness checks are read-only and the password is hashed with no
+     * transaction open; only the insert runs in a (short) write transaction, so the
+     * SQLite writer is never held while BCrypt runs. Concurrent registrations of
+     * the same name still fail on the unique constraints.
+     */
     public ResponseDTO register(User user) throws Exception { //TO-DO: Change ResponseDTO to difference between error and success
         logger.info("Attempting to register user: {}", user.getUsername());
 
@@ -94,17 +110,20 @@ public class AuthService {
                 return response;
             }
 
-            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
-            user.setPassword(encoder.encode(user.getPassword()));
-            if (roleService.existsBasicRole()) {
-                user.addRole(roleService.getBasicRole());
-            }
+            user.setPassword(passwordHashingService.encode(user.getPassword()));
             user.addAuthProvider(AuthProvider.LOCAL);
-            userRepository.save(user);
+            transactionTemplate.executeWithoutResult(status -> {
+                if (roleService.existsBasicRole()) {
+                    user.addRole(roleService.getBasicRole());
+                }
+                userRepository.save(user);
+            });
             logger.info("User registered successfully: {}", user.getUsername());
             response.addSuccessMessage("User registered successfully!"); //TO-DO: Change this message
             return response;
 
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error during registration for user: {} - Error: {}", user.getUsername(), e.getMessage(), e);
             throw new Exception(e.toString());
@@ -136,6 +155,64 @@ public class AuthService {
         }
     }
 
+    /**
+     * Returns the lean principal set by the JWT filter, or {@code null} when the
+     * request is not authenticated through a session cookie.
+     */
+    public AuthenticatedUser getCurrentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    /**
+     * Id of the authenticated user, resolved from the principal without touching the database.
+     */
+    public Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.getId();
+        }
+        if (principal instanceof UserPrincipal userPrincipal) {
+            return userPrincipal.getId();
+        }
+        if (principal instanceof User entity) {
+            return entity.getId();
+        }
+
+        User user = getCurrentUser();
+        return user != null ? user.getId() : null;
+    }
+
+    /**
+     * Returns an uninitialized reference to the authenticated user. Use it to bind
+     * associations and query parameters when the user's fields are not needed;
+     * accessing anything but the id loads the entity.
+     *
+     * Never bind it to an entity the service returns for mapping after the
+     * transaction (open-in-view is off): the mapper would hit the proxy outside a
+     * session. Use {@link #getCurrentUser()} there.
+     */
+    public User getCurrentUserReference() {
+        Long userId = getCurrentUserId();
+        if (userId == null) {
+            logger.debug("No current user found");
+            return null;
+        }
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * Loads the authenticated user. Needed when the user, or an entity it is bound
+     * to, is read after the service transaction has ended.
+     */
     public User getCurrentUser() {
         logger.debug("Getting current authenticated user");
         String username = getCurrentUsername();
@@ -145,7 +222,11 @@ public class AuthService {
         }
 
         try {
-            User user = userRepository.findByUsername(username).orElseThrow(() -> null);
+            // Lookup by id goes through the persistence context, so repeated calls in one transaction cost one query
+            AuthenticatedUser principal = getCurrentPrincipal();
+            User user = (principal != null
+                    ? userRepository.findById(principal.getId())
+                    : userRepository.findByUsername(username)).orElseThrow(() -> null);
             logger.debug("Current user retrieved: {}", username);
             return user;
         } catch (Exception e) {
@@ -171,6 +252,10 @@ public class AuthService {
 
     public boolean hasRole(String role) {
         logger.debug("Checking if current user has role: {}", role);
+        AuthenticatedUser principal = getCurrentPrincipal();
+        if (principal != null) {
+            return principal.hasAuthority(role);
+        }
         Collection<? extends GrantedAuthority> authorities = getCurrentUserRoles();
         if (authorities == null) {
             logger.debug("No authorities found for role check");
@@ -0,0 +1,293 @@
+package com.taskmanager.application.service;
+
+import com.taskmanager.application.config.TaskManagerJobsProperties;
+import com.taskmanager.application.model.dto.JobDTO;
+import com.taskmanager.application.model.entities.BackgroundJob;
+import com.taskmanager.application.model.entities.JobStatus;
+import com.taskmanager.application.model.entities.JobType;
+import com.taskmanager.application.model.entities.User;
+import com.taskmanager.application.model.exceptions.NotPermissionException;
+import com.taskmanager.application.model.exceptions.ResourceNotFoundException;
+import com.taskmanager.application.respository.BackgroundJobRepository;
+import com.taskmanager.application.respository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Persistent queue for operations too heavy to run inside a request.
+ *
+ * Jobs are rows of {@code background_job}. A poller claims queued jobs and hands
+ * them to a fixed pool of {@code taskmanager.jobs.workers} threads. A worker runs
+ * its job through the {@link JobHandler} of its type in chunks of
+ * {@code taskmanager.jobs.chunk-size}, each chunk in its own transaction together
+ * with the new {@code processed} count, and pauses between chunks so the SQLite
+ * writer stays available to requests. Because every chunk commits its own
+ * checkpoint, jobs found RUNNING at startup were interrupted by a shutdown and
+ * are simply queued again; they resume from what is left.
+ *
+ * Cancellation is checked before every chunk, and so is the owner's permission
+ * on the target: a job whose owner was removed, blocked or lost the role that let
+ * them queue it fails instead of running its next chunk. Chunks already committed
+ * stay applied.
+ */
+@Service
+public class BackgroundJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundJobService.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final List<JobStatus> ACTIVE_STATUSES = List.of(JobStatus.QUEUED, JobStatus.RUNNING);
+
+    @Autowired
+    private TaskManagerJobsProperties jobsProperties;
+
+    @Autowired
+    private BackgroundJobRepository jobRepository;
+
+    @Autowired
+    private List<JobHandler> handlers;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<JobType, JobHandler> handlersByType = new EnumMap<>(JobType.class);
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService workers;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        handlers.forEach(handler -> handlersByType.put(handler.getType(), handler));
+        if (!jobsProperties.isEnabled()) {
+            logger.info("Background jobs disabled, queued jobs will not run");
+            return;
+        }
+
+        int requeued = jobRepository.updateAllStatus(JobStatus.RUNNING, JobStatus.QUEUED);
+        if (requeued > 0) {
+            logger.info("Requeued {} background jobs interrupted by the last shutdown", requeued);
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(jobsProperties.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "job-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (workers == null) {
+            return;
+        }
+        // Workers stop after their current chunk; their jobs stay RUNNING and are requeued on the next start
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues a job owned by the current user. It joins the caller's transaction, so
+     * the job only becomes visible to the workers once the caller commits. If the
+     * same operation on the same target is already queued or running, that job is
+     * returned instead of a new one.
+     *
+     * With {@code taskmanager.jobs.enabled=false} nothing would ever run the job,
+     * so the request is refused with 503 Service Unavailable.
+     */
+    @Transactional
+    public JobDTO enqueue(JobType type, Long targetId, Long total) {
+        if (!jobsProperties.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Background jobs are disabled");
+        }
+        BackgroundJob existing = jobRepository
+                .findFirstByTypeAndTargetIdAndStatusIn(type, targetId, ACTIVE_STATUSES)
+                .orElse(null);
+        if (existing != null) {
+            logger.info("Job {} already {} for {} {}", existing.getId(), existing.getStatus(), type, targetId);
+            return JobDTO.fromEntity(existing);
+        }
+
+        BackgroundJob job = new BackgroundJob();
+        job.setType(type);
+        job.setStatus(JobStatus.QUEUED);
+        job.setTargetId(targetId);
+        job.setOwnerId(authService.getCurrentUserId());
+        job.setTotal(total);
+        job.setCreatedDate(new Date());
+        job = jobRepository.save(job);
+        logger.info("Queued job {}: {} {} ({} items) by {}", job.getId(), type, targetId, total,
+                authService.getCurrentUsername());
+        return JobDTO.fromEntity(job);
+    }
+
+    @Transactional(readOnly = true)
+    public JobDTO getJob(Long id) throws ResourceNotFoundException, NotPermissionException {
+        return JobDTO.fromEntity(findOwnJob(id));
+    }
+
+    /**
+     * A queued job is cancelled at once; a running one stops before its next chunk.
+     * Finished jobs are returned unchanged.
+     */
+    @Transactional
+    public JobDTO cancel(Long id) throws ResourceNotFoundException, NotPermissionException {
+        BackgroundJob job = findOwnJob(id);
+        if (job.getStatus() == JobStatus.QUEUED) {
+            job.setStatus(JobStatus.CANCELLED);
+            job.setFinishedDate(new Date());
+        } else if (job.getStatus() == JobStatus.RUNNING) {
+            job.setCancelRequested(true);
+        }
+        logger.info("Cancellation of job {} requested by {}", id, authService.getCurrentUsername());
+        return JobDTO.fromEntity(job);
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.jobs.poll-interval:1s}")
+    public void dispatch() {
+        if (!running) {
+            return;
+        }
+        int free = jobsProperties.getWorkers() - inFlight.size();
+        if (free <= 0) {
+            return;
+        }
+
+        for (Long jobId : jobRepository.findIdsByStatus(JobStatus.QUEUED, PageRequest.of(0, free))) {
+            // Only the poller claims jobs, but a cancellation may have won the row meanwhile
+            if (jobRepository.updateStatus(jobId, JobStatus.QUEUED, JobStatus.RUNNING) == 0) {
+                continue;
+            }
+            inFlight.add(jobId);
+            workers.execute(() -> run(jobId));
+        }
+    }
+
+    private void run(Long jobId) {
+        logger.info("Job {} started", jobId);
+        try {
+            while (running) {
+                Boolean finished = transactionTemplate.execute(status -> runChunk(jobId));
+                if (Boolean.TRUE.equals(finished)) {
+                    return;
+                }
+                Thread.sleep(jobsProperties.getPauseBetweenChunks().toMillis());
+            }
+            logger.info("Job {} interrupted by shutdown, it will resume on the next start", jobId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("Job {} interrupted, it will resume on the next start", jobId);
+        } catch (RuntimeException e) {
+            logger.error("Job {} failed", jobId, e);
+            markFailed(jobId, e);
+        } finally {
+            inFlight.remove(jobId);
+        }
+    }
+
+    private boolean runChunk(Long jobId) {
+        BackgroundJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return true;
+        }
+        if (job.getStartedDate() == null) {
+            job.setStartedDate(new Date());
+        }
+        if (job.isCancelRequested()) {
+            finish(job, JobStatus.CANCELLED);
+            return true;
+        }
+
+        JobHandler handler = handlersByType.get(job.getType());
+        if (handler == null) {
+            throw new IllegalStateException("No handler for job type " + job.getType());
+        }
+        if (!ownerMayRun(job, handler)) {
+            logger.warn("Job {} stopped: its owner {} may no longer run it", job.getId(), job.getOwnerId());
+            job.setError("The owner of the job no longer has permission to run it");
+            finish(job, JobStatus.FAILED);
+            return true;
+        }
+        boolean done = handler.runChunk(job, jobsProperties.getChunkSize());
+        if (done) {
+            finish(job, JobStatus.SUCCEEDED);
+        }
+        return done;
+    }
+
+    private boolean ownerMayRun(BackgroundJob job, JobHandler handler) {
+        User owner = userRepository.findById(job.getOwnerId()).orElse(null);
+        if (owner == null || owner.isBlocked()) {
+            return false;
+        }
+        boolean admin = owner.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return admin || handler.isAllowed(job, owner);
+    }
+
+    private void finish(BackgroundJob job, JobStatus status) {
+        job.setStatus(status);
+        job.setFinishedDate(new Date());
+        logger.info("Job {} {} after {} items", job.getId(), status, job.getProcessed());
+    }
+
+    private void markFailed(Long jobId, RuntimeException e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+        String error = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.setError(error);
+            finish(job, JobStatus.FAILED);
+        }));
+    }
+
+    private BackgroundJob findOwnJob(Long id) throws ResourceNotFoundException, NotPermissionException {
+        BackgroundJob job = jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id " + id));
+        if (!authService.hasRole("ROLE_ADMIN") && !job.getOwnerId().equals(authService.getCurrentUserId())) {
+            throw new NotPermissionException("You don't have permission to access this job");
+        }
+        return job;
+    }
+}
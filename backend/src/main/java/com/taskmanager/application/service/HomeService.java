@@ -39,8 +39,8 @@ public class HomeService {
     public HomeSummaryDTO getHomeSummary() {
         logger.info("Building home summary for current user");
 
-        User user = authService.getCurrentUser();
-        logger.debug("Current user: {}", user.getUsername());
+        User user = authService.getCurrentUserReference();
+        logger.debug("Current user: {}", authService.getCurrentUsername());
 
         HomeSummaryDTO summary = new HomeSummaryDTO();
 
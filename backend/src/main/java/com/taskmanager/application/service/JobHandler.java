@@ -0,0 +1,33 @@
+package com.taskmanager.application.service;
+
+import com.taskmanager.application.model.entities.BackgroundJob;
+import com.taskmanager.application.model.entities.JobType;
+import com.taskmanager.application.model.entities.User;
+
+/**
+ * Does the work of one {@link JobType} for {@link BackgroundJobService}, one chunk
+ * at a time. Handlers run on worker threads without a security context: whoever
+ * enqueued the job was checked then, and {@link #isAllowed} checks them again
+ * before every chunk.
+ */
+public interface JobHandler {
+
+    JobType getType();
+
+    /**
+     * Whether {@code owner}, who queued {@code job} and is not a global admin, may
+     * still run it. Roles and memberships can change while a job waits or runs. A
+     * target that no longer exists counts as allowed; {@link #runChunk} finishes
+     * the job on it.
+     */
+    boolean isAllowed(BackgroundJob job, User owner);
+
+    /**
+     * Processes at most {@code chunkSize} items of {@code job} inside the caller's
+     * transaction and adds them to {@code job.processed}. Every chunk must leave the
+     * data consistent, since the job can stop or be resumed after any of them.
+     *
+     * @return true when nothing is left to do
+     */
+    boolean runChunk(BackgroundJob job, int chunkSize);
+}
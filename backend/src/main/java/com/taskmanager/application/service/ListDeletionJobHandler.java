@@ -0,0 +1,57 @@
+package com.taskmanager.application.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.taskmanager.application.model.entities.BackgroundJob;
+import com.taskmanager.application.model.entities.JobType;
+import com.taskmanager.application.model.entities.User;
+import com.taskmanager.application.respository.ListRepository;
+import com.taskmanager.application.respository.TaskRepository;
+
+/**
+ * Background version of {@link ListService#deleteListById(Long)}: takes the tasks
+ * out of the list one chunk per transaction, then deletes the list.
+ */
+@Component
+public class ListDeletionJobHandler implements JobHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListDeletionJobHandler.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ListRepository listRepository;
+
+    @Override
+    public JobType getType() {
+        return JobType.DELETE_LIST;
+    }
+
+    @Override
+    public boolean isAllowed(BackgroundJob job, User owner) {
+        return listRepository.findById(job.getTargetId())
+                .map(list -> list.getUser() != null && list.getUser().getId().equals(owner.getId()))
+                .orElse(true);
+    }
+
+    @Override
+    public boolean runChunk(BackgroundJob job, int chunkSize) {
+        Long listId = job.getTargetId();
+        List<Long> ids = taskRepository.findIdsByListId(listId, PageRequest.of(0, chunkSize));
+        if (!ids.isEmpty()) {
+            job.setProcessed(job.getProcessed() + taskRepository.clearListByIdIn(ids));
+            return false;
+        }
+
+        listRepository.findById(listId).ifPresent(listRepository::delete);
+        logger.info("List deleted with ID: {} by job {}", listId, job.getId());
+        return true;
+    }
+}
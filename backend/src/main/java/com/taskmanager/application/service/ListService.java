@@ -1,26 +1,34 @@
 package com.taskmanager.application.service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
+import com.taskmanager.application.model.dto.JobDTO;
 import com.taskmanager.application.model.dto.ListTMDTO;
+import com.taskmanager.application.model.dto.TaskOwnershipDTO;
+import com.taskmanager.application.model.entities.JobType;
 import com.taskmanager.application.model.entities.ListTM;
 import com.taskmanager.application.model.entities.Task;
 import com.taskmanager.application.model.entities.User;
 import com.taskmanager.application.model.exceptions.NotPermissionException;
 import com.taskmanager.application.model.exceptions.ResourceNotFoundException;
+import com.taskmanager.application.respository.FullTextSearchRepository;
 import com.taskmanager.application.respository.ListRepository;
 
 import org.springframework.transaction.annotation.Transactional;
 
-import com.taskmanager.application.model.dto.TaskDTO;
 import com.taskmanager.application.respository.TaskRepository;
 import com.taskmanager.application.respository.UserRepository;
 
@@ -38,14 +46,24 @@ public class ListService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskIdChunks taskIdChunks;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private FullTextSearchRepository fullTextSearchRepository;
+
+    @Autowired
+    private BackgroundJobService backgroundJobService;
+
     @Transactional
     public ListTM createList(ListTMDTO listDTO) {
         logger.info("Creating list: {}", listDTO.getNameOfList());
 
         ListTM list = ListTMDTO.toEntity(listDTO, false);
+        // The caller maps the saved list after the transaction, so the owner must be loaded, not a proxy
         User user = authService.getCurrentUser();
 
         if (list.getUser() != null && authService.hasRole("ROLE_ADMIN")) {
@@ -53,32 +71,43 @@ public class ListService {
             return listRepository.save(list);
         } else {
             list.setUser(user);
-            logger.info("User {} creating list: {}", user.getUsername(), listDTO.getNameOfList());
+            logger.info("User {} creating list: {}", authService.getCurrentUsername(), listDTO.getNameOfList());
             return listRepository.save(list);
         }
     }
 
     @Transactional(readOnly = true)
     public List<ListTMDTO> findAllListsForLoggedUser() {
-        User user = authService.getCurrentUser();
-        logger.debug("Retrieving all lists for user: {}", user.getUsername());
+        User user = authService.getCurrentUserReference();
+        String username = authService.getCurrentUsername();
+        logger.debug("Retrieving all lists for user: {}", username);
 
         List<ListTM> list = listRepository.findAllByUser(user);
-        logger.debug("Found {} lists for user: {}", list.size(), user.getUsername());
+        logger.debug("Found {} lists for user: {}", list.size(), username);
 
         return list.stream().map(l -> ListTMDTO.fromEntity(l, false)).toList();
     }
 
     @Transactional(readOnly = true)
     public Page<ListTMDTO> findAllListsForLoggedUser(Pageable pageable) {
-        User user = authService.getCurrentUser();
+        User user = authService.getCurrentUserReference();
         return listRepository.findAllByUser(user, pageable).map(l -> ListTMDTO.fromEntity(l, false));
     }
 
     @Transactional(readOnly = true)
     public Page<ListTMDTO> searchListsForLoggedUser(String name, Pageable pageable) {
-        User user = authService.getCurrentUser();
-        return listRepository.findByUserAndNameContaining(user, name, pageable).map(l -> ListTMDTO.fromEntity(l, false));
+        String match = FullTextSearchRepository.toMatchExpression(name);
+        if (match == null) {
+            return Page.empty(pageable);
+        }
+        Long userId = authService.getCurrentUserId();
+        List<Long> ids = fullTextSearchRepository.searchListIds(userId, match, pageable.getPageSize(), pageable.getOffset());
+        Map<Long, ListTM> byId = new HashMap<>();
+        listRepository.findAllById(ids).forEach(list -> byId.put(list.getId(), list));
+        // Keep the relevance order of the search
+        List<ListTMDTO> content = ids.stream().map(byId::get).filter(Objects::nonNull)
+                .map(l -> ListTMDTO.fromEntity(l, false)).toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> fullTextSearchRepository.countLists(userId, match));
     }
 
     @Transactional
@@ -88,10 +117,7 @@ public class ListService {
         ListTM list = listRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("List not found with id " + id));
         if (authService.hasRole("ROLE_ADMIN") || list.getUser().getUsername().equals(authService.getCurrentUsername())) {
-            for (Task task : list.getListTasks()) {
-                task.setList(null);
-            }
-            taskRepository.flush();
+            taskIdChunks.detachFromList(id);
             listRepository.deleteById(id);
             logger.info("Successfully deleted list with ID: {}", id);
         } else {
@@ -100,6 +126,22 @@ public class ListService {
         }
     }
 
+    /**
+     * Same checks as {@link #deleteListById(Long)}, but the tasks are taken out and
+     * the list deleted by a background job.
+     */
+    @Transactional
+    public JobDTO requestListDeletion(Long id) throws NotPermissionException, ResourceNotFoundException {
+        ListTM list = listRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("List not found with id " + id));
+        if (!authService.hasRole("ROLE_ADMIN") && !list.getUser().getUsername().equals(authService.getCurrentUsername())) {
+            logger.warn("Permission denied deleting list with ID: {} for user: {}", id, authService.getCurrentUsername());
+            throw new NotPermissionException("You don't have permission to delete this list");
+        }
+
+        return backgroundJobService.enqueue(JobType.DELETE_LIST, id, taskRepository.countByListId(id));
+    }
+
     @Transactional
     public ListTMDTO updateList(Long id, ListTMDTO list) throws ResourceNotFoundException, NotPermissionException {
         logger.info("Updating list with ID: {}", id);
@@ -140,30 +182,50 @@ public class ListService {
         }
     }
 
+    /**
+     * Puts the given tasks into the list. All of them are checked first with one
+     * query per chunk of ids; if any is missing or belongs to someone else, nothing
+     * is changed and the error names those ids. Returns how many tasks were added.
+     */
     @Transactional
-    public List<TaskDTO> addTasksToList(Long listId, List<Long> tasksListId) throws ResourceNotFoundException, NotPermissionException {
+    public int addTasksToList(Long listId, List<Long> tasksListId) throws ResourceNotFoundException, NotPermissionException {
         logger.info("Adding tasks to list with ID: {}", listId);
 
         ListTM list = listRepository.findById(listId)
                 .orElseThrow(() -> new ResourceNotFoundException("List not found with id " + listId));
-        
-        if (authService.hasRole("ROLE_ADMIN") || list.getUser().getUsername().equals(authService.getCurrentUsername())) {
-            logger.debug("User authorized to add tasks to list ID: {}", listId);
-
-            List<TaskDTO> addedTasks = new ArrayList<>();
-            for (Long taskId : tasksListId) {
-                Task task = taskRepository.findById(taskId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + taskId));
-                list.addListTask(task);
-                addedTasks.add(TaskDTO.fromEntity(task));
-            }
-            listRepository.save(list);
-            logger.info("Successfully added tasks to list ID: {}", listId);
-            return addedTasks;
-        } else {
+
+        boolean admin = authService.hasRole("ROLE_ADMIN");
+        Long currentUserId = authService.getCurrentUserId();
+        if (!admin && !list.getUser().getId().equals(currentUserId)) {
             logger.warn("Permission denied adding tasks to list ID: {} for user: {}", listId, authService.getCurrentUsername());
             throw new NotPermissionException("You don't have permission to add tasks to this list");
         }
+        if (tasksListId == null || tasksListId.contains(null)) {
+            throw new IllegalArgumentException("Task ids must not be null");
+        }
+
+        List<Long> taskIds = new ArrayList<>(new LinkedHashSet<>(tasksListId));
+        Map<Long, TaskOwnershipDTO> tasks = taskIdChunks.findOwnership(taskIds);
+
+        List<Long> missing = taskIds.stream().filter(id -> !tasks.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Tasks not found with ids " + missing);
+        }
+        if (!admin) {
+            List<Long> notOwned = taskIds.stream()
+                    .filter(id -> !currentUserId.equals(tasks.get(id).getOwnerId())).toList();
+            if (!notOwned.isEmpty()) {
+                logger.warn("Permission denied adding tasks {} to list ID: {} for user: {}", notOwned, listId, authService.getCurrentUsername());
+                throw new NotPermissionException("You don't have permission to add the tasks with ids " + notOwned + " to this list");
+            }
+        }
+
+        int added = 0;
+        for (List<Long> chunk : TaskIdChunks.chunks(taskIds)) {
+            added += taskRepository.updateListByIdIn(list, chunk);
+        }
+        logger.info("Successfully added {} tasks to list ID: {}", added, listId);
+        return added;
     }
 
     @Transactional
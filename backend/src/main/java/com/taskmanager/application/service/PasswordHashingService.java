@@ -0,0 +1,135 @@
+package com.taskmanager.application.service;
+
+import com.taskmanager.application.config.TaskManagerSecurityProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/**
+ * Runs BCrypt hashing and verification on a dedicated, bounded pool.
+ *
+ * The pool has one thread per core and a fixed queue; when the queue is full the
+ * request fails fast with 503 instead of tying up a servlet thread, so a burst of
+ * logins cannot starve the rest of the API. Encoders are created once per cost.
+ * Latency is published as {@code taskmanager.password.hash} and pool/queue usage
+ * as {@code executor.*} metrics with {@code name=passwordHashing}.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private static final String OVERLOADED_MESSAGE = "Too many authentication requests, please try again later";
+
+    @Autowired
+    private TaskManagerSecurityProperties securityProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Integer, BCryptPasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    private Timer encodeTimer;
+
+    private Timer verifyTimer;
+
+    @PostConstruct
+    public void init() {
+        TaskManagerSecurityProperties.PasswordHashing properties = securityProperties.getPasswordHashing();
+        int threads = Math.max(1, properties.getThreads());
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                namedThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+
+        encodeTimer = Timer.builder("taskmanager.password.hash").tag("operation", "encode").register(meterRegistry);
+        verifyTimer = Timer.builder("taskmanager.password.hash").tag("operation", "verify").register(meterRegistry);
+
+        logger.info("Password hashing pool started: {} thread(s), queue capacity {}", threads, properties.getQueueCapacity());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public String encode(String rawPassword) {
+        BCryptPasswordEncoder encoder = encoder(securityProperties.getPasswordHashing().getCost());
+        return run(encodeTimer, () -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        // The cost is read from the stored hash, so any encoder can verify it
+        BCryptPasswordEncoder encoder = encoder(securityProperties.getPasswordHashing().getCost());
+        return run(verifyTimer, () -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    private BCryptPasswordEncoder encoder(int cost) {
+        return encoders.computeIfAbsent(cost, BCryptPasswordEncoder::new);
+    }
+
+    private <T> T run(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Password hashing queue full ({} queued), rejecting request", executor.getQueue().size());
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, OVERLOADED_MESSAGE);
+        }
+
+        try {
+            return future.get(securityProperties.getPasswordHashing().getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("Password hashing timed out waiting for a free worker");
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, OVERLOADED_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, OVERLOADED_MESSAGE);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private ThreadFactory namedThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,268 @@
+package com.taskmanager.application.service;
+
+import com.taskmanager.application.config.TaskManagerRetentionProperties;
+import com.taskmanager.application.model.entities.InvitationStatus;
+import com.taskmanager.application.respository.AuthSessionRepository;
+import com.taskmanager.application.respository.RefreshTokenRepository;
+import com.taskmanager.application.respository.TeamInvitationRepository;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Purges expired or revoked sessions and refresh tokens and old team invitations.
+ *
+ * Rows are deleted in chunks of {@code taskmanager.retention.batch-size}, each one
+ * in its own short transaction with a pause in between, so the SQLite write lock
+ * is never held for long and regular requests can interleave with the purge.
+ * Freed pages are then returned to the file system with an incremental vacuum.
+ * The outcome of the last run is exposed on the {@code retention} actuator endpoint.
+ *
+ * Incremental vacuum needs {@code auto_vacuum = INCREMENTAL}. New databases get it
+ * from the writer connection (SqliteDataSourceConfig); converting an existing one
+ * takes a full VACUUM, which rewrites the whole file under the write lock, so it
+ * only runs when an admin asks for it ({@link #fullVacuum()}).
+ */
+@Service
+public class RetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetentionService.class);
+
+    private static final int AUTO_VACUUM_INCREMENTAL = 2;
+
+    @Autowired
+    private TaskManagerRetentionProperties retentionProperties;
+
+    @Autowired
+    private AuthSessionRepository authSessionRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TeamInvitationRepository teamInvitationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile RetentionRun lastRun;
+
+    @Scheduled(cron = "${taskmanager.retention.cron:0 30 3 * * *}")
+    public void scheduledPurge() {
+        if (!retentionProperties.isEnabled()) {
+            logger.debug("Retention purge disabled, skipping");
+            return;
+        }
+        purge();
+    }
+
+    public RetentionRun purge() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Retention purge already running, skipping");
+            return lastRun;
+        }
+
+        Date startedAt = new Date();
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        boolean vacuumed = false;
+        String error = null;
+        try {
+            long now = startedAt.getTime();
+            Date sessionCutoff = new Date(now - retentionProperties.getAuthSession().toMillis());
+            Date tokenCutoff = new Date(now - retentionProperties.getRefreshToken().toMillis());
+            Date respondedCutoff = new Date(now - retentionProperties.getRespondedInvitation().toMillis());
+            Date pendingCutoff = new Date(now - retentionProperties.getPendingInvitation().toMillis());
+
+            purgeSessions(sessionCutoff, deleted);
+
+            purgeInBatches("refresh_token", deleted, page -> {
+                List<Long> ids = refreshTokenRepository.findIdsExpiredOrRevokedBefore(tokenCutoff, page);
+                if (!ids.isEmpty()) {
+                    refreshTokenRepository.deleteByIdIn(ids);
+                }
+                return ids.size();
+            });
+
+            purgeInBatches("team_invitation", deleted, page -> {
+                List<Long> ids = teamInvitationRepository.findIdsToPurge(InvitationStatus.PENDING,
+                        respondedCutoff, pendingCutoff, page);
+                if (!ids.isEmpty()) {
+                    teamInvitationRepository.deleteByIdIn(ids);
+                }
+                return ids.size();
+            });
+
+            int total = deleted.values().stream().mapToInt(Integer::intValue).sum();
+            if (retentionProperties.isVacuum() && total > 0) {
+                vacuumed = incrementalVacuum();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "Interrupted";
+        } catch (RuntimeException e) {
+            logger.error("Retention purge failed: {}", e.getMessage(), e);
+            error = e.getMessage();
+        } finally {
+            Date finishedAt = new Date();
+            lastRun = new RetentionRun(startedAt, finishedAt, finishedAt.getTime() - startedAt.getTime(),
+                    Collections.unmodifiableMap(deleted), vacuumed, error);
+            running.set(false);
+        }
+
+        logger.info("Retention purge finished in {} ms: deleted {}, vacuumed={}",
+                lastRun.durationMillis(), deleted, vacuumed);
+        return lastRun;
+    }
+
+    public RetentionRun getLastRun() {
+        return lastRun;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Deletes sessions a batch at a time. Every refresh writes a new token, so one
+     * batch of sessions can own tens of thousands of them: those are purged first,
+     * in batches and transactions of their own, and the sessions go last, which
+     * keeps the foreign key satisfied.
+     */
+    private void purgeSessions(Date cutoff, Map<String, Integer> deleted) throws InterruptedException {
+        int batchSize = batchSize();
+        Pageable page = PageRequest.of(0, batchSize);
+
+        while (true) {
+            List<Long> sessionIds = authSessionRepository.findIdsExpiredOrRevokedBefore(cutoff, page);
+            if (sessionIds.isEmpty()) {
+                return;
+            }
+
+            purgeInBatches("refresh_token", deleted, tokenPage -> {
+                List<Long> ids = refreshTokenRepository.findIdsBySessionIdIn(sessionIds, tokenPage);
+                if (!ids.isEmpty()) {
+                    refreshTokenRepository.deleteByIdIn(ids);
+                }
+                return ids.size();
+            });
+
+            Integer sessions = transactionTemplate.execute(status -> {
+                // Tokens written since the drain above; expired and revoked sessions do not get new ones
+                deleted.merge("refresh_token", refreshTokenRepository.deleteBySessionIdIn(sessionIds), Integer::sum);
+                return authSessionRepository.deleteByIdIn(sessionIds);
+            });
+            deleted.merge("auth_session", sessions != null ? sessions : 0, Integer::sum);
+
+            if (sessionIds.size() < batchSize) {
+                return;
+            }
+            pause();
+        }
+    }
+
+    /**
+     * Runs {@code batch} in its own transaction until it processes less than a full
+     * batch, adding the number of processed rows to {@code deleted} under {@code table}.
+     */
+    private void purgeInBatches(String table, Map<String, Integer> deleted, Function<Pageable, Integer> batch)
+            throws InterruptedException {
+        int batchSize = batchSize();
+        Pageable page = PageRequest.of(0, batchSize);
+
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> batch.apply(page));
+            int count = processed != null ? processed : 0;
+            deleted.merge(table, count, Integer::sum);
+            if (count < batchSize) {
+                return;
+            }
+            pause();
+        }
+    }
+
+    private int batchSize() {
+        return Math.max(1, retentionProperties.getBatchSize());
+    }
+
+    private void pause() throws InterruptedException {
+        Duration pause = retentionProperties.getPauseBetweenBatches();
+        if (!pause.isZero() && !pause.isNegative()) {
+            Thread.sleep(pause.toMillis());
+        }
+    }
+
+    /**
+     * Returns at most {@code vacuum-pages} free pages to the file system. Does nothing
+     * (and returns false) on a database that is not in incremental mode yet.
+     */
+    private boolean incrementalVacuum() {
+        if (!isIncrementalAutoVacuum()) {
+            logger.info("auto_vacuum is not INCREMENTAL, skipping vacuum; an admin can convert the database "
+                    + "with POST /api/admin/maintenance/full-vacuum");
+            return false;
+        }
+
+        int pages = retentionProperties.getVacuumPages();
+        jdbcTemplate.execute(pages > 0 ? "PRAGMA incremental_vacuum(" + pages + ")" : "PRAGMA incremental_vacuum");
+        return true;
+    }
+
+    /**
+     * Switches the database to incremental auto_vacuum and rewrites it with a full
+     * VACUUM. This blocks every write for as long as the rewrite takes, so it is an
+     * explicit admin action for a quiet moment, never part of the scheduled purge.
+     */
+    public Map<String, Object> fullVacuum() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A retention purge or vacuum is already running");
+        }
+        try {
+            long start = System.currentTimeMillis();
+            logger.warn("Running full VACUUM on request; writes are blocked until it finishes");
+            jdbcTemplate.execute("PRAGMA auto_vacuum = INCREMENTAL");
+            jdbcTemplate.execute("VACUUM");
+            long durationMillis = System.currentTimeMillis() - start;
+            logger.info("Full VACUUM finished in {} ms", durationMillis);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("incrementalAutoVacuum", isIncrementalAutoVacuum());
+            result.put("durationMillis", durationMillis);
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean isIncrementalAutoVacuum() {
+        Integer autoVacuum = jdbcTemplate.queryForObject("PRAGMA auto_vacuum", Integer.class);
+        return autoVacuum != null && autoVacuum == AUTO_VACUUM_INCREMENTAL;
+    }
+
+    public record RetentionRun(Date startedAt, Date finishedAt, long durationMillis, Map<String, Integer> deleted,
+            boolean vacuumed, String error) {
+
+    }
+}
@@ -9,7 +9,10 @@ import com.taskmanager.application.model.entities.User;
 import com.taskmanager.application.model.dto.LoginDTO;
 import com.taskmanager.application.respository.AuthSessionRepository;
 import com.taskmanager.application.respository.RefreshTokenRepository;
+import com.taskmanager.application.security.LoginThrottle;
 import com.taskmanager.application.security.SessionCookieService;
+import com.taskmanager.application.security.SessionValidationCache;
+import com.taskmanager.application.security.TokenRevocationRegistry;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -19,7 +22,6 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
-import java.util.List;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -28,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -57,10 +60,39 @@ public class SessionService {
     @Autowired
     private TaskManagerSecurityProperties securityProperties;
 
-    @Transactional
+    @Autowired
+    private SessionValidationCache sessionValidationCache;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * The password is checked outside any transaction (see
+     * {@link AuthService#authenticate(LoginDTO)}); only the session insert takes the
+     * writer, in a short transaction of its own.
+     */
     public SessionDTO login(LoginDTO login, HttpServletRequest request, HttpServletResponse response) throws Exception {
-        User user = authService.authenticate(login);
-        return createSessionForUser(user, request, response);
+        String clientIp = resolveClientIp(request);
+        loginThrottle.checkAllowed(login.getUsername(), clientIp);
+
+        User user;
+        try {
+            user = authService.authenticate(login);
+        } catch (ResponseStatusException e) {
+            // Overload (503) is not a failed attempt
+            throw e;
+        } catch (Exception e) {
+            loginThrottle.recordFailure(login.getUsername(), clientIp);
+            throw e;
+        }
+        loginThrottle.recordSuccess(login.getUsername());
+        return transactionTemplate.execute(status -> createSessionForUser(user, request, response));
     }
 
     @Transactional
@@ -133,6 +165,7 @@ public class SessionService {
 
         session.setLastUsedAt(now);
         session.setExpiresAt(new Date(now.getTime() + securityProperties.getRefreshToken().getTtl().toMillis()));
+        sessionValidationCache.invalidate(session.getSessionIdentifier());
 
         TokenBundle tokenBundle = issueTokenBundle(user, session, rotated.entity(), rotated.secret(), now);
         sessionCookieService.addAuthenticationCookies(response, tokenBundle.accessToken(), tokenBundle.refreshToken());
@@ -150,26 +183,54 @@ public class SessionService {
         sessionCookieService.clearAuthenticationCookies(response);
     }
 
+    /**
+     * Revokes the session and its whole refresh-token family.
+     *
+     * @return number of refresh tokens revoked
+     */
     @Transactional
-    public void revokeSession(AuthSession session, String reason) {
+    public int revokeSession(AuthSession session, String reason) {
         if (session == null || session.getRevokedAt() != null) {
-            return;
+            return 0;
         }
 
         Date revokedAt = new Date();
         session.setRevokedAt(revokedAt);
         session.setRevokeReason(reason);
         authSessionRepository.save(session);
+        sessionValidationCache.invalidate(session.getSessionIdentifier());
+        tokenRevocationRegistry.revokeSession(session.getSessionIdentifier());
 
-        List<RefreshToken> refreshTokens = refreshTokenRepository.findBySession(session);
-        for (RefreshToken refreshToken : refreshTokens) {
-            if (refreshToken.getRevokedAt() == null) {
-                refreshToken.setRevokedAt(revokedAt);
-                refreshToken.setRevokeReason(reason);
-            }
-        }
-        refreshTokenRepository.saveAll(refreshTokens);
-        logger.info("Revoked session {} - reason: {}", session.getSessionIdentifier(), reason);
+        int revokedTokens = refreshTokenRepository.revokeBySession(session, revokedAt, reason);
+        logger.info("Revoked session {} and {} refresh token(s) - reason: {}",
+                session.getSessionIdentifier(), revokedTokens, reason);
+        return revokedTokens;
+    }
+
+    @Transactional
+    public RevocationResult revokeAllSessionsOfUser(User user, String reason) {
+        Date revokedAt = new Date();
+        int revokedTokens = refreshTokenRepository.revokeByUserId(user.getId(), revokedAt, reason);
+        int revokedSessions = authSessionRepository.revokeByUserId(user.getId(), revokedAt, reason);
+        sessionValidationCache.invalidateUser(user.getUsername());
+        tokenRevocationRegistry.revokeUser(user.getId());
+
+        logger.info("Revoked {} session(s) and {} refresh token(s) of user {} - reason: {}",
+                revokedSessions, revokedTokens, user.getUsername(), reason);
+        return new RevocationResult(revokedSessions, revokedTokens);
+    }
+
+    @Transactional
+    public RevocationResult revokeAllSessions(String reason) {
+        Date revokedAt = new Date();
+        int revokedTokens = refreshTokenRepository.revokeAll(revokedAt, reason);
+        int revokedSessions = authSessionRepository.revokeAll(revokedAt, reason);
+        sessionValidationCache.invalidateAll();
+        tokenRevocationRegistry.revokeAll();
+
+        logger.warn("Revoked all sessions: {} session(s) and {} refresh token(s) - reason: {}",
+                revokedSessions, revokedTokens, reason);
+        return new RevocationResult(revokedSessions, revokedTokens);
     }
 
     public SessionDTO buildCurrentSession(User user, AuthSession session, Date accessExpiresAt) {
@@ -278,6 +339,10 @@ public class SessionService {
         return StringUtils.hasText(userAgent) ? userAgent : "Unknown";
     }
 
+    public record RevocationResult(int sessions, int refreshTokens) {
+
+    }
+
     private record ParsedRefreshToken(String tokenIdentifier, String secret) {
 
     }
@@ -0,0 +1,276 @@
+package com.taskmanager.application.service;
+
+import com.taskmanager.application.config.TaskManagerSqliteProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/**
+ * Funnels write transactions through a single writer thread, enabled with
+ * {@code taskmanager.sqlite.write-queue.enabled=true}.
+ *
+ * The writer drains whatever commands are waiting (up to {@code max-batch-size})
+ * and runs them in one transaction, so SQLite pays one commit for the whole
+ * batch instead of one per request, and requests never compete for the write
+ * lock. Callers block until the batch has committed, so they read their own
+ * writes afterwards. If any command of a batch fails, the batch is rolled back
+ * and its commands are re-run one transaction each, so a failure only affects
+ * its own request. The caller's security context travels with the command.
+ *
+ * A caller whose write has not started within {@code write-queue.timeout} gets
+ * 503 and the write is dropped. Once the writer has claimed a write it always
+ * runs, so its caller keeps waiting for the outcome instead: a 503 always means
+ * nothing was written and the request can be retried safely. Anything thrown by a
+ * batch, including an {@link Error}, fails that batch's callers and leaves the
+ * writer thread running.
+ */
+@Service
+@ConditionalOnProperty(prefix = "taskmanager.sqlite.write-queue", name = "enabled", havingValue = "true")
+public class SqliteWriteQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqliteWriteQueue.class);
+
+    @Autowired
+    private TaskManagerSqliteProperties sqliteProperties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private BlockingQueue<PendingWrite> queue;
+
+    private Thread writerThread;
+
+    private DistributionSummary batchSizes;
+
+    private volatile boolean running;
+
+    @FunctionalInterface
+    public interface WriteCommand {
+        Object run() throws Throwable;
+    }
+
+    @PostConstruct
+    public void start() {
+        queue = new LinkedBlockingQueue<>(Math.max(1, sqliteProperties.getWriteQueue().getCapacity()));
+        batchSizes = DistributionSummary.builder("taskmanager.sqlite.write.batch.size").register(meterRegistry);
+        Gauge.builder("taskmanager.sqlite.write.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::writerLoop, "sqlite-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        logger.info("SQLite write queue started (max batch size {})", sqliteProperties.getWriteQueue().getMaxBatchSize());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        writerThread.interrupt();
+    }
+
+    /**
+     * Runs {@code command} on the writer thread and waits for its batch to commit.
+     * Calls made from the writer thread itself or from within an existing
+     * transaction run in place, since a transaction cannot move between threads.
+     */
+    public Object submit(WriteCommand command) throws Throwable {
+        if (Thread.currentThread() == writerThread || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return command.run();
+        }
+
+        PendingWrite write = new PendingWrite(command, SecurityContextHolder.getContext());
+        if (!queue.offer(write)) {
+            logger.warn("SQLite write queue full ({} pending), rejecting request", queue.size());
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, "Server is busy, please try again later");
+        }
+
+        try {
+            return write.result.get(sqliteProperties.getWriteQueue().getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            // Already claimed by the writer: it runs, so the caller must get its outcome rather than a 503
+            if (!write.cancel()) {
+                return awaitCompleted(write);
+            }
+            logger.warn("SQLite write not run within {}, rejecting request", sqliteProperties.getWriteQueue().getTimeout());
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, "Server is busy, please try again later");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            write.cancel();
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, "Request interrupted");
+        }
+    }
+
+    private Object awaitCompleted(PendingWrite write) throws Throwable {
+        try {
+            return write.result.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writerLoop() {
+        int maxBatchSize = Math.max(1, sqliteProperties.getWriteQueue().getMaxBatchSize());
+        while (running) {
+            List<PendingWrite> batch = new ArrayList<>();
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+            batch.removeIf(PendingWrite::isCancelled);
+            if (batch.isEmpty()) {
+                continue;
+            }
+            batchSizes.record(batch.size());
+            try {
+                runBatch(batch);
+            } catch (Throwable e) {
+                logger.error("SQLite write batch of {} failed", batch.size(), e);
+                batch.forEach(write -> write.result.completeExceptionally(e));
+            }
+        }
+
+        List<PendingWrite> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(write -> write.result.completeExceptionally(
+                new ResponseStatusException(SERVICE_UNAVAILABLE, "Server is shutting down")));
+    }
+
+    private void runBatch(List<PendingWrite> batch) {
+        if (batch.size() == 1) {
+            runAlone(batch.get(0));
+            return;
+        }
+
+        List<Object> results = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (PendingWrite write : batch) {
+                    results.add(runCommand(write));
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.debug("Group commit of {} writes failed ({}), retrying them one by one", batch.size(), e.getMessage());
+            batch.forEach(this::runAlone);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(results.get(i));
+        }
+    }
+
+    private void runAlone(PendingWrite write) {
+        try {
+            write.result.complete(transactionTemplate.execute(status -> runCommand(write)));
+        } catch (CommandFailedException e) {
+            write.result.completeExceptionally(e.getCause());
+        } catch (Throwable e) {
+            write.result.completeExceptionally(e);
+        }
+    }
+
+    private Object runCommand(PendingWrite write) {
+        // Its caller timed out and got 503 while the batch waited
+        if (!write.claim()) {
+            return null;
+        }
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(write.securityContext);
+        try {
+            return write.command.run();
+        } catch (Throwable e) {
+            throw new CommandFailedException(e);
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+
+    /**
+     * A queued command. The writer claiming it and its caller cancelling it race on
+     * the same state, so exactly one of them wins.
+     */
+    private static final class PendingWrite {
+
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;
+        private static final int CANCELLED = 2;
+
+        private final WriteCommand command;
+        private final SecurityContext securityContext;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private PendingWrite(WriteCommand command, SecurityContext securityContext) {
+            this.command = command;
+            this.securityContext = securityContext;
+        }
+
+        /**
+         * Marks the write as started. Also true when it was claimed before, since a
+         * failed group commit re-runs its writes one by one.
+         */
+        private boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED) || state.get() == CLAIMED;
+        }
+
+        /**
+         * Drops the write unless the writer has already claimed it.
+         */
+        private boolean cancel() {
+            if (!state.compareAndSet(QUEUED, CANCELLED)) {
+                return false;
+            }
+            result.cancel(false);
+            return true;
+        }
+
+        private boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+
+    /**
+     * Carries a command's own exception (possibly checked) out of the transaction callback.
+     */
+    private static final class CommandFailedException extends RuntimeException {
+
+        private CommandFailedException(Throwable cause) {
+            super(cause.getMessage(), cause, false, false);
+        }
+    }
+}
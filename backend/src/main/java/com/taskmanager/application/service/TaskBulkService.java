@@ -0,0 +1,232 @@
+package com.taskmanager.application.service;
+
+import com.taskmanager.application.model.dto.BulkTaskRequestDTO;
+import com.taskmanager.application.model.dto.BulkTaskResultDTO;
+import com.taskmanager.application.model.dto.TaskOwnershipDTO;
+import com.taskmanager.application.model.entities.ActionTask;
+import com.taskmanager.application.model.entities.ActionType;
+import com.taskmanager.application.model.entities.ListTM;
+import com.taskmanager.application.model.entities.Task;
+import com.taskmanager.application.model.entities.TaskAssignmentHistory;
+import com.taskmanager.application.model.entities.Team;
+import com.taskmanager.application.model.entities.User;
+import com.taskmanager.application.model.exceptions.NotPermissionException;
+import com.taskmanager.application.model.exceptions.ResourceNotFoundException;
+import com.taskmanager.application.respository.ActionTaskRepository;
+import com.taskmanager.application.respository.EventTaskRepository;
+import com.taskmanager.application.respository.ListRepository;
+import com.taskmanager.application.respository.TaskAssignmentHistoryRepository;
+import com.taskmanager.application.respository.TaskRepository;
+import com.taskmanager.application.respository.TeamMemberRepository;
+import com.taskmanager.application.respository.TeamRepository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Applies one operation to many tasks in a single transaction.
+ *
+ * Ownership of all requested tasks is read with one query per chunk of ids,
+ * the same rules as the single-task endpoints decide which ones are allowed,
+ * and the allowed ones are written with set-based UPDATE/DELETE statements
+ * (plus JDBC-batched inserts for the team history), never task by task. Missing
+ * or forbidden ids do not fail the request; they are reported per id.
+ */
+@Service
+public class TaskBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBulkService.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskIdChunks taskIdChunks;
+
+    @Autowired
+    private ActionTaskRepository actionTaskRepository;
+
+    @Autowired
+    private EventTaskRepository eventTaskRepository;
+
+    @Autowired
+    private TaskAssignmentHistoryRepository assignmentHistoryRepository;
+
+    @Autowired
+    private ListRepository listRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Transactional
+    public BulkTaskResultDTO apply(BulkTaskRequestDTO request) throws ResourceNotFoundException, NotPermissionException {
+        List<Long> taskIds = new ArrayList<>(new LinkedHashSet<>(request.getTaskIds()));
+        if (taskIds.contains(null)) {
+            throw new IllegalArgumentException("Task ids must not be null");
+        }
+        logger.info("Bulk {} on {} tasks by {}", request.getOperation(), taskIds.size(), authService.getCurrentUsername());
+
+        BulkTaskResultDTO result = switch (request.getOperation()) {
+            case UPDATE -> update(taskIds, request);
+            case DELETE -> delete(taskIds);
+            case MOVE_TO_LIST -> moveToList(taskIds, request.getListId());
+            case ADD_TO_TEAM -> addToTeam(taskIds, request.getTeamId());
+        };
+
+        logger.info("Bulk {} finished: {} applied, {} skipped", request.getOperation(), result.getSucceeded(), result.getFailed());
+        return result;
+    }
+
+    private BulkTaskResultDTO update(List<Long> taskIds, BulkTaskRequestDTO request) {
+        if (request.getState() == null && request.getPriority() == null) {
+            throw new IllegalArgumentException("State or priority is required for a bulk update");
+        }
+        Map<Long, TaskOwnershipDTO> tasks = taskIdChunks.findOwnership(taskIds);
+        return applyToAllowed(BulkTaskRequestDTO.Operation.UPDATE, taskIds, tasks, ownedOrAdmin(), chunk -> {
+            if (request.getState() != null) {
+                taskRepository.updateStateByIdIn(request.getState(), chunk);
+            }
+            if (request.getPriority() != null) {
+                taskRepository.updatePriorityByIdIn(request.getPriority(), chunk);
+            }
+        });
+    }
+
+    private BulkTaskResultDTO delete(List<Long> taskIds) {
+        Map<Long, TaskOwnershipDTO> tasks = taskIdChunks.findOwnership(taskIds);
+        return applyToAllowed(BulkTaskRequestDTO.Operation.DELETE, taskIds, tasks, ownedOrAdmin(), chunk -> {
+            // Same rows the single delete removes through cascades, plus the team history that points at the task
+            List<Long> eventIds = taskRepository.findEventIdsByIdIn(chunk);
+            actionTaskRepository.deleteByTaskIdIn(chunk);
+            assignmentHistoryRepository.deleteByTaskIdIn(chunk);
+            taskRepository.deleteByIdIn(chunk);
+            if (!eventIds.isEmpty()) {
+                eventTaskRepository.deleteByIdIn(eventIds);
+            }
+        });
+    }
+
+    private BulkTaskResultDTO moveToList(List<Long> taskIds, Long listId)
+            throws ResourceNotFoundException, NotPermissionException {
+        ListTM list = null;
+        if (listId != null) {
+            list = listRepository.findById(listId)
+                    .orElseThrow(() -> new ResourceNotFoundException("List not found with id " + listId));
+            if (!authService.hasRole("ROLE_ADMIN") && !list.getUser().getId().equals(authService.getCurrentUserId())) {
+                throw new NotPermissionException("You don't have permission to add tasks to this list");
+            }
+        }
+
+        ListTM target = list;
+        Map<Long, TaskOwnershipDTO> tasks = taskIdChunks.findOwnership(taskIds);
+        return applyToAllowed(BulkTaskRequestDTO.Operation.MOVE_TO_LIST, taskIds, tasks, ownedOrAdmin(),
+                chunk -> taskRepository.updateListByIdIn(target, chunk));
+    }
+
+    private BulkTaskResultDTO addToTeam(List<Long> taskIds, Long teamId)
+            throws ResourceNotFoundException, NotPermissionException {
+        if (teamId == null) {
+            throw new IllegalArgumentException("Team id is required to add tasks to a team");
+        }
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId));
+        User currentUser = authService.getCurrentUserReference();
+        teamMemberRepository.findByTeamAndUser(team, currentUser)
+                .orElseThrow(() -> new NotPermissionException("You are not a member of this team"));
+
+        Long currentUserId = authService.getCurrentUserId();
+        String currentUsername = authService.getCurrentUsername();
+        Map<Long, TaskOwnershipDTO> tasks = taskIdChunks.findOwnership(taskIds);
+        // Only the owner can add a task to a team, as in TeamService.addTaskToTeam
+        Predicate<TaskOwnershipDTO> allowed = task -> currentUserId.equals(task.getOwnerId());
+
+        return applyToAllowed(BulkTaskRequestDTO.Operation.ADD_TO_TEAM, taskIds, tasks, allowed, chunk -> {
+            // Tasks already in the team are left as they are, without a second history entry
+            List<Long> added = chunk.stream().filter(id -> !teamId.equals(tasks.get(id).getTeamId())).toList();
+            if (added.isEmpty()) {
+                return;
+            }
+            taskRepository.updateTeamByIdIn(team, added);
+
+            // Ids come from PooledIdGenerator, so these inserts are JDBC-batched on flush
+            Date now = new Date();
+            String description = "Task added to team " + team.getName() + " by @" + currentUsername;
+            List<TaskAssignmentHistory> history = new ArrayList<>(added.size());
+            List<ActionTask> actions = new ArrayList<>(added.size());
+            for (Long taskId : added) {
+                Task task = taskRepository.getReferenceById(taskId);
+
+                TaskAssignmentHistory entry = new TaskAssignmentHistory();
+                entry.setTask(task);
+                entry.setFromUser(null);
+                entry.setToUser(currentUser);
+                entry.setChangedBy(currentUser);
+                entry.setTeam(team);
+                entry.setChangedDate(now);
+                history.add(entry);
+
+                ActionTask action = new ActionTask();
+                action.setActionName("Task Added to Team");
+                action.setActionDescription(description);
+                action.setActionType(ActionType.COMMENT);
+                action.setUser(currentUsername);
+                action.setTask(task);
+                action.setActionDate(now);
+                actions.add(action);
+            }
+            assignmentHistoryRepository.saveAll(history);
+            actionTaskRepository.saveAll(actions);
+        });
+    }
+
+    private Predicate<TaskOwnershipDTO> ownedOrAdmin() {
+        if (authService.hasRole("ROLE_ADMIN")) {
+            return task -> true;
+        }
+        Long currentUserId = authService.getCurrentUserId();
+        return task -> currentUserId.equals(task.getOwnerId());
+    }
+
+    /**
+     * Classifies every requested id, then hands the allowed ones to {@code write}
+     * in chunks of {@link TaskIdChunks#CHUNK_SIZE}.
+     */
+    private BulkTaskResultDTO applyToAllowed(BulkTaskRequestDTO.Operation operation, List<Long> taskIds,
+            Map<Long, TaskOwnershipDTO> tasks, Predicate<TaskOwnershipDTO> allowed, Consumer<List<Long>> write) {
+        List<BulkTaskResultDTO.Item> results = new ArrayList<>(taskIds.size());
+        List<Long> allowedIds = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            TaskOwnershipDTO task = tasks.get(taskId);
+            BulkTaskResultDTO.Status status;
+            if (task == null) {
+                status = BulkTaskResultDTO.Status.NOT_FOUND;
+            } else if (allowed.test(task)) {
+                status = BulkTaskResultDTO.Status.OK;
+                allowedIds.add(taskId);
+            } else {
+                status = BulkTaskResultDTO.Status.FORBIDDEN;
+            }
+            results.add(new BulkTaskResultDTO.Item(taskId, status));
+        }
+
+        TaskIdChunks.chunks(allowedIds).forEach(write);
+        return new BulkTaskResultDTO(operation, results);
+    }
+}
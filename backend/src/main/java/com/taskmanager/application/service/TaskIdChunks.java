@@ -0,0 +1,82 @@
+package com.taskmanager.application.service;
+
+import com.taskmanager.application.model.dto.TaskOwnershipDTO;
+import com.taskmanager.application.respository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Id chunking shared by the services that work on many tasks at once. Every IN
+ * list and bulk UPDATE on task ids goes through chunks of {@value #CHUNK_SIZE},
+ * and tasks are read and detached without loading the entities. Runs in the
+ * caller's transaction.
+ */
+@Component
+public class TaskIdChunks {
+
+    // Keeps every IN list well below SQLite's bound-parameter limit
+    public static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    public static <T> List<List<T>> chunks(List<T> ids) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Owner and team of each existing task, by task id. Ids without a task are
+     * simply absent from the map.
+     */
+    public Map<Long, TaskOwnershipDTO> findOwnership(List<Long> taskIds) {
+        Map<Long, TaskOwnershipDTO> tasks = new HashMap<>();
+        for (List<Long> chunk : chunks(taskIds)) {
+            taskRepository.findOwnershipByIdIn(chunk).forEach(task -> tasks.put(task.getTaskId(), task));
+        }
+        return tasks;
+    }
+
+    /**
+     * Clears the team of the team's tasks, only {@code userId}'s when given.
+     */
+    public int detachFromTeam(Long teamId, Long userId) {
+        Pageable chunk = PageRequest.of(0, CHUNK_SIZE);
+        int detached = 0;
+        List<Long> ids;
+        do {
+            ids = taskRepository.findIdsByTeamId(teamId, userId, chunk);
+            if (!ids.isEmpty()) {
+                detached += taskRepository.clearTeamByIdIn(ids);
+            }
+        } while (ids.size() == CHUNK_SIZE);
+        return detached;
+    }
+
+    /**
+     * Takes every task out of the list.
+     */
+    public int detachFromList(Long listId) {
+        Pageable chunk = PageRequest.of(0, CHUNK_SIZE);
+        int detached = 0;
+        List<Long> ids;
+        do {
+            ids = taskRepository.findIdsByListId(listId, chunk);
+            if (!ids.isEmpty()) {
+                detached += taskRepository.clearListByIdIn(ids);
+            }
+        } while (ids.size() == CHUNK_SIZE);
+        return detached;
+    }
+}
@@ -1,7 +1,9 @@
 package com.taskmanager.application.service;
 
+import com.taskmanager.application.model.dto.CursorPageDTO;
 import com.taskmanager.application.model.dto.EventTaskDTO;
 import com.taskmanager.application.model.dto.TaskDTO;
+import com.taskmanager.application.model.dto.TaskListItemDTO;
 import com.taskmanager.application.model.entities.ActionTask;
 import com.taskmanager.application.model.entities.EventTask;
 import com.taskmanager.application.model.entities.PriorityTask;
@@ -12,6 +14,7 @@ import com.taskmanager.application.model.exceptions.NotPermissionException;
 import com.taskmanager.application.model.exceptions.ResourceNotFoundException;
 import com.taskmanager.application.respository.ActionTaskRepository;
 import com.taskmanager.application.respository.EventTaskRepository;
+import com.taskmanager.application.respository.FullTextSearchRepository;
 import com.taskmanager.application.respository.TaskRepository;
 
 import org.slf4j.Logger;
@@ -19,11 +22,17 @@ import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
 import com.taskmanager.application.model.dto.ActionTaskDTO;
@@ -51,6 +60,9 @@ public class TaskService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private FullTextSearchRepository fullTextSearchRepository;
+
     /*This method, when the frontend is properly implemented, should check who is
      * logged in, and see if they are admin or not. If not admin, we only put the task with the user who created it,
      * if admin, we can put the task with the user assigned by the admin (in this case send the username).
@@ -62,6 +74,7 @@ public class TaskService {
         validateEventDates(taskDto);
 
         Task task = TaskDTO.toEntity(taskDto);
+        // The caller maps the saved task after the transaction, so the owner must be loaded, not a proxy
         User user = authService.getCurrentUser();
 
         task.setCreationDate(new Date());
@@ -72,9 +85,10 @@ public class TaskService {
             return savedTask;
         } else {
             task.setUser(user);
-            logger.info("User {} creating task: {}", user.getUsername(), taskDto.getNameOfTask());
+            String username = authService.getCurrentUsername();
+            logger.info("User {} creating task: {}", username, taskDto.getNameOfTask());
             Task savedTask = tasksRepository.save(task);
-            logger.info("Successfully created task with ID: {} for user: {}", savedTask.getId(), user.getUsername());
+            logger.info("Successfully created task with ID: {} for user: {}", savedTask.getId(), username);
             return savedTask;
         }
     }
@@ -85,7 +99,7 @@ public class TaskService {
 
         validateEventDates(task);
 
-        Task taskToUpdate = tasksRepository.findById(id)
+        Task taskToUpdate = tasksRepository.findWithDetailsById(id)
                 .orElseThrow(() -> {
                     logger.error("Task not found with ID: {}", id);
                     return new ResourceNotFoundException("Task not found with id " + id);
@@ -125,33 +139,54 @@ public class TaskService {
     }
 
     @Transactional(readOnly = true)
-    public List<TaskDTO> findAllTasksForLoggedUser() {
+    public List<TaskListItemDTO> findAllTasksForLoggedUser() {
         logger.info("Finding all tasks for logged user");
 
-        User user = authService.getCurrentUser();
-        logger.debug("Current user: {}", user.getUsername());
-
-        List<Task> list = tasksRepository.findAllByUser(user);
-        logger.debug("Found {} tasks for user: {}", list.size(), user.getUsername());
+        Long userId = authService.getCurrentUserId();
+        String username = authService.getCurrentUsername();
+        logger.debug("Current user: {}", username);
 
-        List<TaskDTO> result = list.stream().map(task -> TaskDTO.fromEntity(task)).toList();
-        logger.info("Successfully retrieved {} tasks for user: {}", result.size(), user.getUsername());
+        List<TaskListItemDTO> result = tasksRepository.findListItemsByUserId(userId);
+        logger.info("Successfully retrieved {} tasks for user: {}", result.size(), username);
 
         return result;
     }
 
     @Transactional(readOnly = true)
-    public Page<TaskDTO> findAllTasksForLoggedUser(Pageable pageable) {
-        User user = authService.getCurrentUser();
-        Page<Task> page = tasksRepository.findAllByUser(user, pageable);
-        return page.map(TaskDTO::fromEntity);
+    public Page<TaskListItemDTO> findAllTasksForLoggedUser(Pageable pageable) {
+        return tasksRepository.findListItemsByUserId(authService.getCurrentUserId(), pageable);
     }
 
+    /**
+     * Keyset page of the logged user's tasks, newest first. A null cursor returns the first page.
+     */
     @Transactional(readOnly = true)
-    public Page<TaskDTO> searchTasksForLoggedUser(String name, Pageable pageable) {
-        User user = authService.getCurrentUser();
-        Page<Task> page = tasksRepository.findByUserAndNameContaining(user, name, pageable);
-        return page.map(TaskDTO::fromEntity);
+    public Slice<TaskListItemDTO> findTasksForLoggedUser(CursorPageDTO.Cursor cursor, int size) {
+        Long userId = authService.getCurrentUserId();
+        Pageable pageable = PageRequest.of(0, Math.min(size, CursorPageDTO.MAX_SIZE));
+        if (cursor == null) {
+            return tasksRepository.findFirstListItemSliceByUserId(userId, pageable);
+        }
+        return cursor.date() == null
+                ? tasksRepository.findListItemSliceByUserIdAfterNullDate(userId, cursor.id(), pageable)
+                : tasksRepository.findListItemSliceByUserIdAfter(userId, cursor.date(), cursor.id(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TaskListItemDTO> searchTasksForLoggedUser(String name, Pageable pageable) {
+        String match = FullTextSearchRepository.toMatchExpression(name);
+        if (match == null) {
+            return Page.empty(pageable);
+        }
+        Long userId = authService.getCurrentUserId();
+        List<Long> ids = fullTextSearchRepository.searchTaskIds(userId, match, pageable.getPageSize(), pageable.getOffset());
+        Map<Long, TaskListItemDTO> byId = new HashMap<>();
+        if (!ids.isEmpty()) {
+            tasksRepository.findListItemsByIds(ids).forEach(task -> byId.put(task.getId(), task));
+        }
+        // Keep the relevance order of the search
+        List<TaskListItemDTO> content = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> fullTextSearchRepository.countTasks(userId, match));
     }
 
     @Transactional(readOnly = true)
@@ -201,7 +236,7 @@ public class TaskService {
     public Task getTaskById(Long id) throws ResourceNotFoundException, NotPermissionException {
         logger.info("Retrieving task with ID: {}", id);
 
-        Task task = tasksRepository.findById(id)
+        Task task = tasksRepository.findWithDetailsById(id)
                 .orElseThrow(() -> {
                     logger.error("Task not found with ID: {}", id);
                     return new ResourceNotFoundException("Task not found with id " + id);
@@ -221,12 +256,12 @@ public class TaskService {
     public List<EventTaskDTO> getAllEventsForCurrentUser() {
         logger.info("Retrieving all events for current user");
 
-        User user = authService.getCurrentUser();
-        logger.debug("Current user: {}", user.getUsername());
+        Long userId = authService.getCurrentUserId();
+        logger.debug("Current user ID: {}", userId);
 
-        List<EventTaskDTO> events = eventTaskRepository.findAllEventsByUserId(user.getId());
-        logger.debug("Found {} events for user: {}", events.size(), user.getUsername());
-        logger.info("Successfully retrieved {} events for user: {}", events.size(), user.getUsername());
+        List<EventTaskDTO> events = eventTaskRepository.findAllEventsByUserId(userId);
+        logger.debug("Found {} events for user ID: {}", events.size(), userId);
+        logger.info("Successfully retrieved {} events for user ID: {}", events.size(), userId);
 
         return events;
     }
@@ -290,6 +325,25 @@ public class TaskService {
         return actionTaskRepository.findAllByTask(task, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<ActionTask> getActionsForTask(Long taskId, CursorPageDTO.Cursor cursor, int size)
+            throws ResourceNotFoundException, NotPermissionException {
+        Task task = tasksRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + taskId));
+
+        if (!authService.hasRole("ROLE_ADMIN") && !task.getUser().getUsername().equals(authService.getCurrentUsername())) {
+            throw new NotPermissionException("You don't have permission to see the actions for this task");
+        }
+
+        Pageable pageable = PageRequest.of(0, Math.min(size, CursorPageDTO.MAX_SIZE));
+        if (cursor == null) {
+            return actionTaskRepository.findFirstSliceByTask(task, pageable);
+        }
+        return cursor.date() == null
+                ? actionTaskRepository.findSliceByTaskAfterNullDate(task, cursor.id(), pageable)
+                : actionTaskRepository.findSliceByTaskAfter(task, cursor.date(), cursor.id(), pageable);
+    }
+
     @Transactional
     public void deleteActionFromTask(Long taskId, Long actionId) throws ResourceNotFoundException, NotPermissionException {
         logger.info("Deleting action with ID: {} from task with ID: {}", actionId, taskId);
@@ -360,11 +414,11 @@ public class TaskService {
     public List<TaskResumeDTO> getTasksResumeWithoutList(){
         logger.info("Retrieving task resumes without list for current user");
 
-        User user = authService.getCurrentUser();
-        logger.debug("Current user: {}", user.getUsername());
+        Long userId = authService.getCurrentUserId();
+        logger.debug("Current user ID: {}", userId);
 
-        List<TaskResumeDTO> tasksResume = tasksRepository.findTasksResumeWithoutListByUserId(user.getId());
-        logger.info("Successfully retrieved {} task resumes without list for user: {}", tasksResume.size(), user.getUsername());
+        List<TaskResumeDTO> tasksResume = tasksRepository.findTasksResumeWithoutListByUserId(userId);
+        logger.info("Successfully retrieved {} task resumes without list for user ID: {}", tasksResume.size(), userId);
 
         return tasksResume;
     }
@@ -390,10 +444,10 @@ public class TaskService {
         if (!authService.hasRole("ROLE_ADMIN")) {
             throw new NotPermissionException("Only admins can view other users' tasks");
         }
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        List<Task> tasks = tasksRepository.findAllByUser(user);
-        return tasks.stream().map(TaskSummaryDTO::fromEntity).toList();
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        return tasksRepository.findSummariesByUserId(userId);
     }
 
     @Transactional(readOnly = true)
@@ -401,9 +455,10 @@ public class TaskService {
         if (!authService.hasRole("ROLE_ADMIN")) {
             throw new NotPermissionException("Only admins can view other users' tasks");
         }
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        return tasksRepository.findAllByUser(user, pageable).map(TaskSummaryDTO::fromEntity);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        return tasksRepository.findSummariesByUserId(userId, pageable);
     }
 
 }
@@ -0,0 +1,64 @@
+package com.taskmanager.application.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.taskmanager.application.model.entities.BackgroundJob;
+import com.taskmanager.application.model.entities.JobType;
+import com.taskmanager.application.model.entities.TeamRole;
+import com.taskmanager.application.model.entities.User;
+import com.taskmanager.application.respository.TaskRepository;
+import com.taskmanager.application.respository.TeamMemberRepository;
+import com.taskmanager.application.respository.TeamRepository;
+
+/**
+ * Background version of {@link TeamService#deleteTeam(Long)}: detaches the tasks
+ * of the team one chunk per transaction, then deletes the team.
+ */
+@Component
+public class TeamDeletionJobHandler implements JobHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamDeletionJobHandler.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Override
+    public JobType getType() {
+        return JobType.DELETE_TEAM;
+    }
+
+    @Override
+    public boolean isAllowed(BackgroundJob job, User owner) {
+        return teamRepository.findById(job.getTargetId())
+                .map(team -> teamMemberRepository.findByTeamAndUser(team, owner)
+                        .map(member -> member.getRole() == TeamRole.ADMIN)
+                        .orElse(false))
+                .orElse(true);
+    }
+
+    @Override
+    public boolean runChunk(BackgroundJob job, int chunkSize) {
+        Long teamId = job.getTargetId();
+        List<Long> ids = taskRepository.findIdsByTeamId(teamId, null, PageRequest.of(0, chunkSize));
+        if (!ids.isEmpty()) {
+            job.setProcessed(job.getProcessed() + taskRepository.clearTeamByIdIn(ids));
+            return false;
+        }
+
+        teamRepository.findById(teamId).ifPresent(teamRepository::delete);
+        logger.info("Team deleted with ID: {} by job {}", teamId, job.getId());
+        return true;
+    }
+}
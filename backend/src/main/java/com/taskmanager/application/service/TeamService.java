@@ -1,7 +1,11 @@
 package com.taskmanager.application.service;
 
+import com.taskmanager.application.model.dto.CursorPageDTO;
+import com.taskmanager.application.model.dto.JobDTO;
 import com.taskmanager.application.model.dto.TaskAssignmentHistoryDTO;
 import com.taskmanager.application.model.dto.TaskDTO;
+import com.taskmanager.application.model.dto.TaskListItemDTO;
+import com.taskmanager.application.model.dto.TaskStateCountDTO;
 import com.taskmanager.application.model.dto.TeamDashboardDTO;
 import com.taskmanager.application.model.dto.TeamDTO;
 import com.taskmanager.application.model.dto.TeamInvitationDTO;
@@ -9,6 +13,7 @@ import com.taskmanager.application.model.dto.TeamMemberDTO;
 import com.taskmanager.application.model.entities.ActionTask;
 import com.taskmanager.application.model.entities.ActionType;
 import com.taskmanager.application.model.entities.InvitationStatus;
+import com.taskmanager.application.model.entities.JobType;
 import com.taskmanager.application.model.entities.PriorityTask;
 import com.taskmanager.application.model.entities.StateTask;
 import com.taskmanager.application.model.entities.Task;
@@ -21,6 +26,7 @@ import com.taskmanager.application.model.entities.User;
 import com.taskmanager.application.model.exceptions.NotPermissionException;
 import com.taskmanager.application.model.exceptions.ResourceNotFoundException;
 import com.taskmanager.application.respository.ActionTaskRepository;
+import com.taskmanager.application.respository.FullTextSearchRepository;
 import com.taskmanager.application.respository.TaskAssignmentHistoryRepository;
 import com.taskmanager.application.respository.TaskRepository;
 import com.taskmanager.application.respository.TeamInvitationRepository;
@@ -32,15 +38,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -58,6 +70,9 @@ public class TeamService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskIdChunks taskIdChunks;
+
     @Autowired
     private TaskAssignmentHistoryRepository assignmentHistoryRepository;
 
@@ -70,6 +85,12 @@ public class TeamService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private FullTextSearchRepository fullTextSearchRepository;
+
+    @Autowired
+    private BackgroundJobService backgroundJobService;
+
     @Autowired
     private AuthService authService;
 
@@ -78,7 +99,7 @@ public class TeamService {
     @Transactional
     public TeamDTO createTeam(TeamDTO teamDTO) {
         logger.info("Creating team: {}", teamDTO.getName());
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
 
         Team team = new Team();
         team.setName(teamDTO.getName());
@@ -95,13 +116,13 @@ public class TeamService {
         team.addMember(member);
         teamMemberRepository.save(member);
 
-        logger.info("Team created with ID: {} by user: {}", team.getId(), currentUser.getUsername());
+        logger.info("Team created with ID: {} by user: {}", team.getId(), authService.getCurrentUsername());
         return TeamDTO.fromEntity(team, true);
     }
 
     @Transactional(readOnly = true)
     public List<TeamDTO> getTeamsForCurrentUser() {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         List<Team> teams = teamRepository.findAllByMemberUser(currentUser);
         return teams.stream()
                 .map(t -> TeamDTO.fromEntity(t, false))
@@ -110,16 +131,25 @@ public class TeamService {
 
     @Transactional(readOnly = true)
     public Page<TeamDTO> getTeamsForCurrentUser(Pageable pageable) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         return teamRepository.findAllByMemberUser(currentUser, pageable)
                 .map(t -> TeamDTO.fromEntity(t, false));
     }
 
     @Transactional(readOnly = true)
     public Page<TeamDTO> searchTeamsForCurrentUser(String name, Pageable pageable) {
-        User currentUser = authService.getCurrentUser();
-        return teamRepository.findByMemberUserAndNameContaining(currentUser, name, pageable)
-                .map(t -> TeamDTO.fromEntity(t, false));
+        String match = FullTextSearchRepository.toMatchExpression(name);
+        if (match == null) {
+            return Page.empty(pageable);
+        }
+        Long userId = authService.getCurrentUserId();
+        List<Long> ids = fullTextSearchRepository.searchTeamIds(userId, match, pageable.getPageSize(), pageable.getOffset());
+        Map<Long, Team> byId = new HashMap<>();
+        teamRepository.findAllById(ids).forEach(team -> byId.put(team.getId(), team));
+        // Keep the relevance order of the search
+        List<TeamDTO> content = ids.stream().map(byId::get).filter(Objects::nonNull)
+                .map(t -> TeamDTO.fromEntity(t, false)).toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> fullTextSearchRepository.countTeams(userId, match));
     }
 
     @Transactional(readOnly = true)
@@ -151,16 +181,26 @@ public class TeamService {
         validateAdminRole(team);
 
         // Remove team reference from tasks
-        List<Task> teamTasks = taskRepository.findAllByTeam(team);
-        for (Task task : teamTasks) {
-            task.setTeam(null);
-        }
-        taskRepository.saveAll(teamTasks);
+        int detached = taskIdChunks.detachFromTeam(teamId, null);
+        logger.debug("Detached {} tasks from team {}", detached, teamId);
 
         teamRepository.delete(team);
         logger.info("Team deleted with ID: {}", teamId);
     }
 
+    /**
+     * Same checks as {@link #deleteTeam(Long)}, but the tasks are detached and the
+     * team deleted by a background job.
+     */
+    @Transactional
+    public JobDTO requestTeamDeletion(Long teamId) throws ResourceNotFoundException, NotPermissionException {
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId));
+        validateAdminRole(team);
+
+        return backgroundJobService.enqueue(JobType.DELETE_TEAM, teamId, taskRepository.countByTeamId(teamId));
+    }
+
     // ===== MEMBER MANAGEMENT =====
 
     @Transactional
@@ -212,11 +252,7 @@ public class TeamService {
         }
 
         // Remove team reference from this member's tasks
-        List<Task> memberTasks = taskRepository.findAllByTeamAndUser(team, member.getUser());
-        for (Task task : memberTasks) {
-            task.setTeam(null);
-        }
-        taskRepository.saveAll(memberTasks);
+        taskIdChunks.detachFromTeam(teamId, member.getUser().getId());
 
         team.removeMember(member);
         teamMemberRepository.delete(member);
@@ -227,7 +263,7 @@ public class TeamService {
     public void leaveTeam(Long teamId) throws ResourceNotFoundException, NotPermissionException {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId));
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
 
         TeamMember member = teamMemberRepository.findByTeamAndUser(team, currentUser)
                 .orElseThrow(() -> new NotPermissionException("You are not a member of this team"));
@@ -243,15 +279,11 @@ public class TeamService {
         }
 
         // Remove team reference from this member's tasks
-        List<Task> memberTasks = taskRepository.findAllByTeamAndUser(team, currentUser);
-        for (Task task : memberTasks) {
-            task.setTeam(null);
-        }
-        taskRepository.saveAll(memberTasks);
+        taskIdChunks.detachFromTeam(teamId, currentUser.getId());
 
         team.removeMember(member);
         teamMemberRepository.delete(member);
-        logger.info("User {} left team {}", currentUser.getUsername(), teamId);
+        logger.info("User {} left team {}", authService.getCurrentUsername(), teamId);
     }
 
     @Transactional
@@ -291,7 +323,8 @@ public class TeamService {
             throws ResourceNotFoundException, NotPermissionException {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId));
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
+        String currentUsername = authService.getCurrentUsername();
         TeamMember currentMember = validateMembership(team);
 
         Task task = taskRepository.findById(taskId)
@@ -344,21 +377,21 @@ public class TeamService {
         if (previousUser != null) {
             action.setActionDescription("Task reassigned from @" + previousUser.getUsername()
                     + " to @" + targetUser.getUsername()
-                    + " by @" + currentUser.getUsername()
+                    + " by @" + currentUsername
                     + " in team " + team.getName());
         } else {
             action.setActionDescription("Task assigned to @" + targetUser.getUsername()
-                    + " by @" + currentUser.getUsername()
+                    + " by @" + currentUsername
                     + " in team " + team.getName());
         }
         action.setActionType(ActionType.COMMENT);
-        action.setUser(currentUser.getUsername());
+        action.setUser(currentUsername);
         action.setTask(task);
         action.setActionDate(new Date());
         actionTaskRepository.save(action);
 
         logger.info("Task {} assigned to {} in team {} by {}",
-                taskId, targetUsername, teamId, currentUser.getUsername());
+                taskId, targetUsername, teamId, currentUsername);
         return TaskDTO.fromEntity(task);
     }
 
@@ -372,7 +405,8 @@ public class TeamService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + taskId));
 
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
+        String currentUsername = authService.getCurrentUsername();
         // Only task owner can add their task to a team
         if (!task.getUser().getId().equals(currentUser.getId())) {
             throw new NotPermissionException("You can only add your own tasks to a team");
@@ -395,14 +429,14 @@ public class TeamService {
         ActionTask action = new ActionTask();
         action.setActionName("Task Added to Team");
         action.setActionDescription("Task added to team " + team.getName()
-                + " by @" + currentUser.getUsername());
+                + " by @" + currentUsername);
         action.setActionType(ActionType.COMMENT);
-        action.setUser(currentUser.getUsername());
+        action.setUser(currentUsername);
         action.setTask(task);
         action.setActionDate(new Date());
         actionTaskRepository.save(action);
 
-        logger.info("Task {} added to team {} by {}", taskId, teamId, currentUser.getUsername());
+        logger.info("Task {} added to team {} by {}", taskId, teamId, currentUsername);
         return TaskDTO.fromEntity(task);
     }
 
@@ -418,22 +452,24 @@ public class TeamService {
         dashboard.setTeamId(team.getId());
         dashboard.setTeamName(team.getName());
 
-        // Get members with pending task counts
-        List<TeamMemberDTO> memberDTOs = team.getMembers().stream().map(member -> {
-            TeamMemberDTO dto = TeamMemberDTO.fromEntity(member);
-            long pending = taskRepository.countPendingByTeamAndUser(team, member.getUser(),
-                    Arrays.asList(StateTask.COMPLETED, StateTask.CANCELLED));
-            dto.setPendingTasks(pending);
-            return dto;
-        }).toList();
+        // One grouped query; every number below is summed from its (user, state) rows
+        Map<StateTask, Long> byState = new EnumMap<>(StateTask.class);
+        Map<Long, Long> openByUser = new HashMap<>();
+        for (TaskStateCountDTO row : taskRepository.countByTeamGroupedByUserAndState(team.getId())) {
+            byState.merge(row.getState(), row.getCount(), Long::sum);
+            if (row.getState() != StateTask.COMPLETED && row.getState() != StateTask.CANCELLED) {
+                openByUser.merge(row.getUserId(), row.getCount(), Long::sum);
+            }
+        }
+
+        List<TeamMemberDTO> memberDTOs = teamMemberRepository.findMemberDTOsByTeamId(team.getId());
+        memberDTOs.forEach(member -> member.setPendingTasks(openByUser.getOrDefault(member.getUserId(), 0L)));
         dashboard.setMembers(memberDTOs);
 
-        dashboard.setTotalTasks(taskRepository.countByTeam(team));
-        dashboard.setCompletedTasks(taskRepository.countByTeamAndState(team, StateTask.COMPLETED));
-        dashboard.setInProgressTasks(taskRepository.countByTeamAndState(team, StateTask.IN_PROGRESS));
-        long newTasks = taskRepository.countByTeamAndState(team, StateTask.NEW);
-        long pausedTasks = taskRepository.countByTeamAndState(team, StateTask.PAUSSED);
-        dashboard.setPendingTasks(newTasks + pausedTasks);
+        dashboard.setTotalTasks(byState.values().stream().mapToLong(Long::longValue).sum());
+        dashboard.setCompletedTasks(byState.getOrDefault(StateTask.COMPLETED, 0L));
+        dashboard.setInProgressTasks(byState.getOrDefault(StateTask.IN_PROGRESS, 0L));
+        dashboard.setPendingTasks(byState.getOrDefault(StateTask.NEW, 0L) + byState.getOrDefault(StateTask.PAUSSED, 0L));
 
         return dashboard;
     }
@@ -441,7 +477,7 @@ public class TeamService {
     // ===== FILTERED TASKS =====
 
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTeamTasksFiltered(Long teamId, String ownerUsername,
+    public List<TaskListItemDTO> getTeamTasksFiltered(Long teamId, String ownerUsername,
                                               StateTask state, PriorityTask priority)
             throws ResourceNotFoundException, NotPermissionException {
         Team team = teamRepository.findById(teamId)
@@ -452,8 +488,7 @@ public class TeamService {
         if (ownerUsername != null && !ownerUsername.isEmpty()) {
             if (currentMember.getRole() != TeamRole.ADMIN) {
                 // Members can only see their own tasks
-                User currentUser = authService.getCurrentUser();
-                if (!ownerUsername.equals(currentUser.getUsername())) {
+                if (!ownerUsername.equals(authService.getCurrentUsername())) {
                     throw new NotPermissionException("You can only filter your own tasks");
                 }
             }
@@ -461,15 +496,15 @@ public class TeamService {
                     .orElseThrow(() -> new ResourceNotFoundException("User not found: " + ownerUsername));
         } else if (currentMember.getRole() != TeamRole.ADMIN) {
             // Non-admins without owner filter should only see their own tasks
-            ownerUser = authService.getCurrentUser();
+            ownerUser = authService.getCurrentUserReference();
         }
 
-        List<Task> tasks = taskRepository.findTeamTasksFiltered(team, ownerUser, state, priority);
-        return tasks.stream().map(TaskDTO::fromEntity).toList();
+        return taskRepository.findTeamListItems(team.getId(), ownerUser != null ? ownerUser.getId() : null,
+                state, priority);
     }
 
     @Transactional(readOnly = true)
-    public Page<TaskDTO> getTeamTasksFiltered(Long teamId, String ownerUsername,
+    public Page<TaskListItemDTO> getTeamTasksFiltered(Long teamId, String ownerUsername,
                                               StateTask state, PriorityTask priority, Pageable pageable)
             throws ResourceNotFoundException, NotPermissionException {
         Team team = teamRepository.findById(teamId)
@@ -479,52 +514,39 @@ public class TeamService {
         User ownerUser = null;
         if (ownerUsername != null && !ownerUsername.isEmpty()) {
             if (currentMember.getRole() != TeamRole.ADMIN) {
-                User currentUser = authService.getCurrentUser();
-                if (!ownerUsername.equals(currentUser.getUsername())) {
+                if (!ownerUsername.equals(authService.getCurrentUsername())) {
                     throw new NotPermissionException("You can only filter your own tasks");
                 }
             }
             ownerUser = userRepository.findByUsername(ownerUsername)
                     .orElseThrow(() -> new ResourceNotFoundException("User not found: " + ownerUsername));
         } else if (currentMember.getRole() != TeamRole.ADMIN) {
-            ownerUser = authService.getCurrentUser();
+            ownerUser = authService.getCurrentUserReference();
         }
 
-        return taskRepository.findTeamTasksFiltered(team, ownerUser, state, priority, pageable)
-                .map(TaskDTO::fromEntity);
+        return taskRepository.findTeamListItems(team.getId(), ownerUser != null ? ownerUser.getId() : null,
+                state, priority, pageable);
     }
 
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTeamTasks(Long teamId) throws ResourceNotFoundException, NotPermissionException {
+    public List<TaskListItemDTO> getTeamTasks(Long teamId) throws ResourceNotFoundException, NotPermissionException {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId));
         TeamMember currentMember = validateMembership(team);
 
-        List<Task> tasks;
-        if (currentMember.getRole() == TeamRole.ADMIN) {
-            tasks = taskRepository.findAllByTeam(team);
-        } else {
-            // Non-admins only see their own tasks
-            User currentUser = authService.getCurrentUser();
-            tasks = taskRepository.findAllByTeamAndUser(team, currentUser);
-        }
-        return tasks.stream().map(TaskDTO::fromEntity).toList();
+        // Non-admins only see their own tasks
+        Long ownerId = currentMember.getRole() == TeamRole.ADMIN ? null : authService.getCurrentUserId();
+        return taskRepository.findTeamListItems(team.getId(), ownerId, null, null);
     }
 
     @Transactional(readOnly = true)
-    public Page<TaskDTO> getTeamTasks(Long teamId, Pageable pageable) throws ResourceNotFoundException, NotPermissionException {
+    public Page<TaskListItemDTO> getTeamTasks(Long teamId, Pageable pageable) throws ResourceNotFoundException, NotPermissionException {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId));
         TeamMember currentMember = validateMembership(team);
 
-        Page<Task> tasks;
-        if (currentMember.getRole() == TeamRole.ADMIN) {
-            tasks = taskRepository.findAllByTeam(team, pageable);
-        } else {
-            User currentUser = authService.getCurrentUser();
-            tasks = taskRepository.findAllByTeamAndUser(team, currentUser, pageable);
-        }
-        return tasks.map(TaskDTO::fromEntity);
+        Long ownerId = currentMember.getRole() == TeamRole.ADMIN ? null : authService.getCurrentUserId();
+        return taskRepository.findTeamListItems(team.getId(), ownerId, null, null, pageable);
     }
 
     // ===== ASSIGNMENT HISTORY =====
@@ -553,6 +575,25 @@ public class TeamService {
                 .map(TaskAssignmentHistoryDTO::fromEntity);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<TaskAssignmentHistoryDTO> getAssignmentHistory(Long teamId, CursorPageDTO.Cursor cursor, int size)
+            throws ResourceNotFoundException, NotPermissionException {
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId));
+        validateAdminRole(team);
+
+        Pageable pageable = PageRequest.of(0, Math.min(size, CursorPageDTO.MAX_SIZE));
+        Slice<TaskAssignmentHistory> slice;
+        if (cursor == null) {
+            slice = assignmentHistoryRepository.findFirstSliceByTeam(team, pageable);
+        } else if (cursor.date() == null) {
+            slice = assignmentHistoryRepository.findSliceByTeamAfterNullDate(team, cursor.id(), pageable);
+        } else {
+            slice = assignmentHistoryRepository.findSliceByTeamAfter(team, cursor.date(), cursor.id(), pageable);
+        }
+        return slice.map(TaskAssignmentHistoryDTO::fromEntity);
+    }
+
     // ===== INVITATIONS =====
 
     @Transactional
@@ -562,7 +603,7 @@ public class TeamService {
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId));
         validateAdminRole(team);
 
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
 
         User targetUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
@@ -582,7 +623,7 @@ public class TeamService {
         invitation.setCreatedDate(new Date());
         invitation = invitationRepository.save(invitation);
 
-        logger.info("Invitation created for user {} to team {} by {}", username, teamId, currentUser.getUsername());
+        logger.info("Invitation created for user {} to team {} by {}", username, teamId, authService.getCurrentUsername());
         return TeamInvitationDTO.fromEntity(invitation);
     }
 
@@ -650,7 +691,8 @@ public class TeamService {
             throw new RuntimeException("Invitation has already been responded to");
         }
 
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
+        String currentUsername = authService.getCurrentUsername();
         invitation.setRespondedDate(new Date());
 
         if (accept) {
@@ -666,10 +708,10 @@ public class TeamService {
                 teamMemberRepository.save(member);
             }
 
-            logger.info("User {} accepted invitation to team {}", currentUser.getUsername(), invitation.getTeam().getId());
+            logger.info("User {} accepted invitation to team {}", currentUsername, invitation.getTeam().getId());
         } else {
             invitation.setStatus(InvitationStatus.REJECTED);
-            logger.info("User {} rejected invitation to team {}", currentUser.getUsername(), invitation.getTeam().getId());
+            logger.info("User {} rejected invitation to team {}", currentUsername, invitation.getTeam().getId());
         }
 
         invitationRepository.save(invitation);
@@ -693,7 +735,7 @@ public class TeamService {
     // ===== RBAC HELPERS =====
 
     private TeamMember validateMembership(Team team) throws NotPermissionException {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         return teamMemberRepository.findByTeamAndUser(team, currentUser)
                 .orElseThrow(() -> new NotPermissionException("You are not a member of this team"));
     }
@@ -701,7 +743,7 @@ public class TeamService {
     private TeamMember validateAdminRole(Team team) throws NotPermissionException {
         // Global ADMIN role bypasses team membership check — they can manage any team
         if (authService.hasRole("ROLE_ADMIN")) {
-            User currentUser = authService.getCurrentUser();
+            User currentUser = authService.getCurrentUserReference();
             // Return actual membership if exists, otherwise return null (global admin not in team)
             return teamMemberRepository.findByTeamAndUser(team, currentUser).orElse(null);
         }
@@ -717,7 +759,7 @@ public class TeamService {
         try {
             Team team = teamRepository.findById(teamId).orElse(null);
             if (team == null) return false;
-            User currentUser = authService.getCurrentUser();
+            User currentUser = authService.getCurrentUserReference();
             return teamMemberRepository.findByTeamAndUser(team, currentUser)
                     .map(m -> m.getRole() == TeamRole.ADMIN)
                     .orElse(false);
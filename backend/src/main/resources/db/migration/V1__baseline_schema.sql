@@ -0,0 +1,151 @@
+-- Baseline schema, equivalent to what Hibernate generated with ddl-auto=update.
+-- Databases created before migrations were introduced are baselined at this
+-- version (spring.flyway.baseline-on-migrate) and skip this script.
+
+create table if not exists app_user (
+    id integer primary key,
+    username varchar(255) not null unique,
+    email varchar(255) not null unique,
+    password varchar(255),
+    creation_date timestamp,
+    blocked boolean not null,
+    name varchar(255),
+    surname1 varchar(255),
+    surname2 varchar(255)
+);
+
+create table if not exists authority_of_role (
+    id integer primary key,
+    name varchar(255) not null unique
+);
+
+create table if not exists role_of_user (
+    id integer primary key,
+    name varchar(255) not null unique
+);
+
+create table if not exists role_authorities (
+    role_id bigint not null,
+    authority_id bigint not null,
+    primary key (role_id, authority_id)
+);
+
+create table if not exists user_roles (
+    user_id bigint not null,
+    role_id bigint not null,
+    primary key (user_id, role_id)
+);
+
+create table if not exists user_auth_providers (
+    user_id bigint not null,
+    auth_provider varchar(255) not null,
+    primary key (user_id, auth_provider)
+);
+
+create table if not exists app_config (
+    id integer primary key,
+    config_key varchar(255) not null unique,
+    config_value clob
+);
+
+create table if not exists auth_session (
+    id integer primary key,
+    session_identifier varchar(64) not null unique,
+    user_id bigint not null,
+    ip_address varchar(45),
+    user_agent varchar(500),
+    created_at timestamp not null,
+    last_used_at timestamp not null,
+    expires_at timestamp not null,
+    revoked_at timestamp,
+    revoke_reason varchar(255)
+);
+
+create table if not exists refresh_token (
+    id integer primary key,
+    token_identifier varchar(64) not null unique,
+    token_hash varchar(255) not null,
+    session_id bigint not null,
+    parent_token_identifier varchar(64),
+    replaced_by_token_identifier varchar(64),
+    created_at timestamp not null,
+    expires_at timestamp not null,
+    used_at timestamp,
+    revoked_at timestamp,
+    revoke_reason varchar(255)
+);
+
+create table if not exists team (
+    id integer primary key,
+    name varchar(255) not null,
+    description clob,
+    creation_date timestamp
+);
+
+create table if not exists team_member (
+    id integer primary key,
+    team_id bigint not null,
+    user_id bigint not null,
+    role varchar(255) not null,
+    joined_date timestamp,
+    unique (team_id, user_id)
+);
+
+create table if not exists team_invitation (
+    id integer primary key,
+    team_id bigint not null,
+    invited_email varchar(255),
+    invited_username varchar(255),
+    invited_by_id bigint not null,
+    status varchar(255) not null,
+    token varchar(255) not null unique,
+    created_date timestamp,
+    responded_date timestamp
+);
+
+create table if not exists listtm (
+    id integer primary key,
+    name varchar(255) not null,
+    description clob not null,
+    color varchar(255) not null,
+    user_id bigint
+);
+
+create table if not exists event_task (
+    id integer primary key,
+    start_time timestamp,
+    end_time timestamp
+);
+
+create table if not exists task (
+    id integer primary key,
+    name varchar(255) not null,
+    description clob not null,
+    state tinyint not null,
+    creation_date timestamp,
+    event_id bigint unique,
+    priority tinyint not null,
+    user_id bigint,
+    list_id bigint,
+    team_id bigint
+);
+
+create table if not exists action_task (
+    id integer primary key,
+    action_name varchar(255),
+    action_description varchar(255),
+    action_type tinyint,
+    user varchar(255),
+    task_id bigint,
+    action_date timestamp
+);
+
+create table if not exists task_assignment_history (
+    id integer primary key,
+    task_id bigint not null,
+    from_user_id bigint,
+    to_user_id bigint not null,
+    changed_by_id bigint not null,
+    team_id bigint not null,
+    changed_date timestamp
+);
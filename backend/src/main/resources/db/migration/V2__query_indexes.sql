@@ -0,0 +1,37 @@
+-- Secondary indexes for the repository queries. Without them SQLite scans the
+-- whole table for every lookup by owner, team, list or parent row.
+
+-- TaskRepository: findAllByUser, countByUser, findTop5ByUserOrderByCreationDateDesc
+create index if not exists idx_task_user_creation_date on task (user_id, creation_date);
+-- TaskRepository: findAllByTeam, countByTeam, countByTeamAndState (team dashboard)
+create index if not exists idx_task_team_state on task (team_id, state);
+-- TaskRepository: findAllByTeamAndUser, countPendingByTeamAndUser
+create index if not exists idx_task_team_user on task (team_id, user_id);
+-- ListService: tasks of a list
+create index if not exists idx_task_list on task (list_id);
+
+-- ActionTaskRepository: findAllByTask
+create index if not exists idx_action_task_task on action_task (task_id);
+
+-- EventTaskRepository: findUpcomingEventsByUserId ordering/filtering by start time
+create index if not exists idx_event_task_start_time on event_task (start_time);
+
+-- TeamRepository: findAllByMemberUser; TeamMemberRepository: findAllByUser
+-- (team_id, user_id) is already covered by the unique constraint
+create index if not exists idx_team_member_user on team_member (user_id);
+
+-- TeamInvitationRepository: pending invitations by username / email / team
+create index if not exists idx_team_invitation_username_status on team_invitation (invited_username, status);
+create index if not exists idx_team_invitation_email_status on team_invitation (invited_email, status);
+create index if not exists idx_team_invitation_team_status on team_invitation (team_id, status);
+
+-- TaskAssignmentHistoryRepository: history by team / task, newest first
+create index if not exists idx_task_assignment_history_team_date on task_assignment_history (team_id, changed_date);
+create index if not exists idx_task_assignment_history_task_date on task_assignment_history (task_id, changed_date);
+
+-- ListRepository: findAllByUser, countByUser
+create index if not exists idx_listtm_user on listtm (user_id);
+
+-- Session revocation and retention
+create index if not exists idx_refresh_token_session on refresh_token (session_id);
+create index if not exists idx_auth_session_user on auth_session (user_id);
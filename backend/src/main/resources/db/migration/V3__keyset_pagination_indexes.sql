@@ -0,0 +1,7 @@
+-- Keyset pagination walks each listing newest first by (date, id). The id is the
+-- rowid, which SQLite appends to every index, so (parent, date) is enough for the
+-- seek and the ORDER BY to be served from the index without sorting.
+
+-- ActionTaskRepository: findFirstSliceByTask, findSliceByTaskAfter
+drop index if exists idx_action_task_task;
+create index if not exists idx_action_task_task_date on action_task (task_id, action_date);
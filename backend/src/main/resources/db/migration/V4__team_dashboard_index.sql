@@ -0,0 +1,6 @@
+-- The team dashboard counts a team's tasks grouped by (user_id, state) in one
+-- query. With state in the index that query is answered from the index alone,
+-- already grouped. The team_id prefix still serves the other team task queries
+-- (findTeamListItems, findIdsByTeamId, countByTeamId).
+drop index if exists idx_task_team_user;
+create index if not exists idx_task_team_user_state on task (team_id, user_id, state);
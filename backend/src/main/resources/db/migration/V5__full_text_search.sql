@@ -0,0 +1,67 @@
+-- Full-text search over task names and descriptions, list names and team names.
+-- The FTS5 tables are external-content indexes over the base tables (rowid = id),
+-- so they store only the index, and the triggers below keep them in sync with
+-- every insert, update and delete, including bulk statements.
+-- prefix = '2 3' adds prefix indexes so typeahead queries like "rep*" stay fast.
+
+create virtual table if not exists task_fts using fts5(
+    name, description,
+    content = 'task', content_rowid = 'id',
+    tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3'
+);
+
+create trigger if not exists task_fts_after_insert after insert on task begin
+    insert into task_fts (rowid, name, description) values (new.id, new.name, new.description);
+end;
+
+create trigger if not exists task_fts_after_delete after delete on task begin
+    insert into task_fts (task_fts, rowid, name, description) values ('delete', old.id, old.name, old.description);
+end;
+
+create trigger if not exists task_fts_after_update after update of name, description on task begin
+    insert into task_fts (task_fts, rowid, name, description) values ('delete', old.id, old.name, old.description);
+    insert into task_fts (rowid, name, description) values (new.id, new.name, new.description);
+end;
+
+create virtual table if not exists listtm_fts using fts5(
+    name,
+    content = 'listtm', content_rowid = 'id',
+    tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3'
+);
+
+create trigger if not exists listtm_fts_after_insert after insert on listtm begin
+    insert into listtm_fts (rowid, name) values (new.id, new.name);
+end;
+
+create trigger if not exists listtm_fts_after_delete after delete on listtm begin
+    insert into listtm_fts (listtm_fts, rowid, name) values ('delete', old.id, old.name);
+end;
+
+create trigger if not exists listtm_fts_after_update after update of name on listtm begin
+    insert into listtm_fts (listtm_fts, rowid, name) values ('delete', old.id, old.name);
+    insert into listtm_fts (rowid, name) values (new.id, new.name);
+end;
+
+create virtual table if not exists team_fts using fts5(
+    name,
+    content = 'team', content_rowid = 'id',
+    tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3'
+);
+
+create trigger if not exists team_fts_after_insert after insert on team begin
+    insert into team_fts (rowid, name) values (new.id, new.name);
+end;
+
+create trigger if not exists team_fts_after_delete after delete on team begin
+    insert into team_fts (team_fts, rowid, name) values ('delete', old.id, old.name);
+end;
+
+create trigger if not exists team_fts_after_update after update of name on team begin
+    insert into team_fts (team_fts, rowid, name) values ('delete', old.id, old.name);
+    insert into team_fts (rowid, name) values (new.id, new.name);
+end;
+
+-- Index the rows that existed before this migration
+insert into task_fts (task_fts) values ('rebuild');
+insert into listtm_fts (listtm_fts) values ('rebuild');
+insert into team_fts (team_fts) values ('rebuild');
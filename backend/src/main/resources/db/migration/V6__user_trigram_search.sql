@@ -0,0 +1,27 @@
+-- Substring search over usernames and emails for the admin console.
+-- user_search is an external-content FTS5 index over app_user using the trigram
+-- tokenizer, so a quoted term matches anywhere inside the value (case-insensitive)
+-- without scanning the table. The triggers keep it in sync on registration,
+-- OAuth sign-up, username/email changes and deletes.
+
+create virtual table if not exists user_search using fts5(
+    username, email,
+    content = 'app_user', content_rowid = 'id',
+    tokenize = 'trigram'
+);
+
+create trigger if not exists user_search_after_insert after insert on app_user begin
+    insert into user_search (rowid, username, email) values (new.id, new.username, new.email);
+end;
+
+create trigger if not exists user_search_after_delete after delete on app_user begin
+    insert into user_search (user_search, rowid, username, email) values ('delete', old.id, old.username, old.email);
+end;
+
+create trigger if not exists user_search_after_update after update of username, email on app_user begin
+    insert into user_search (user_search, rowid, username, email) values ('delete', old.id, old.username, old.email);
+    insert into user_search (rowid, username, email) values (new.id, new.username, new.email);
+end;
+
+-- Index the users that existed before this migration
+insert into user_search (user_search) values ('rebuild');
@@ -0,0 +1,25 @@
+-- Id blocks for the pooled-lo generator (PooledId / PooledIdGenerator). Entities
+-- now get their ids from here instead of from the database on insert, which lets
+-- Hibernate batch inserts. One row per table; next_val is the first id not yet
+-- handed out, so each row starts above the ids that already exist.
+-- Rows inserted outside Hibernate from now on must take their ids from here too.
+
+create table if not exists id_generator (
+    sequence_name varchar(255) not null primary key,
+    next_val bigint not null
+);
+
+insert into id_generator (sequence_name, next_val) select 'app_user', coalesce(max(id), 0) + 1 from app_user;
+insert into id_generator (sequence_name, next_val) select 'authority_of_role', coalesce(max(id), 0) + 1 from authority_of_role;
+insert into id_generator (sequence_name, next_val) select 'role_of_user', coalesce(max(id), 0) + 1 from role_of_user;
+insert into id_generator (sequence_name, next_val) select 'app_config', coalesce(max(id), 0) + 1 from app_config;
+insert into id_generator (sequence_name, next_val) select 'auth_session', coalesce(max(id), 0) + 1 from auth_session;
+insert into id_generator (sequence_name, next_val) select 'refresh_token', coalesce(max(id), 0) + 1 from refresh_token;
+insert into id_generator (sequence_name, next_val) select 'team', coalesce(max(id), 0) + 1 from team;
+insert into id_generator (sequence_name, next_val) select 'team_member', coalesce(max(id), 0) + 1 from team_member;
+insert into id_generator (sequence_name, next_val) select 'team_invitation', coalesce(max(id), 0) + 1 from team_invitation;
+insert into id_generator (sequence_name, next_val) select 'listtm', coalesce(max(id), 0) + 1 from listtm;
+insert into id_generator (sequence_name, next_val) select 'event_task', coalesce(max(id), 0) + 1 from event_task;
+insert into id_generator (sequence_name, next_val) select 'task', coalesce(max(id), 0) + 1 from task;
+insert into id_generator (sequence_name, next_val) select 'action_task', coalesce(max(id), 0) + 1 from action_task;
+insert into id_generator (sequence_name, next_val) select 'task_assignment_history', coalesce(max(id), 0) + 1 from task_assignment_history;
@@ -0,0 +1,23 @@
+-- Persistent queue for long-running operations (BackgroundJobService).
+-- Each job runs in short chunks; "processed" is committed together with the work
+-- of every chunk, so after a restart a job continues from its last chunk.
+
+create table if not exists background_job (
+    id integer primary key,
+    type varchar(255) not null,
+    status varchar(255) not null,
+    target_id bigint,
+    owner_id bigint not null,
+    processed bigint not null,
+    total bigint,
+    cancel_requested boolean not null,
+    error varchar(1000),
+    created_date timestamp,
+    started_date timestamp,
+    finished_date timestamp
+);
+
+-- Workers poll for the oldest queued jobs
+create index if not exists idx_background_job_status_created on background_job (status, created_date);
+
+insert into id_generator (sequence_name, next_val) values ('background_job', 1);
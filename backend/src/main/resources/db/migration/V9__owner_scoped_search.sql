@@ -0,0 +1,152 @@
+-- Scopes the V5 full-text indexes to their owners. Each row gets an owner column
+-- holding one "u<user id>" token per user allowed to see it: the task or list
+-- owner, or every member of a team. FullTextSearchRepository matches
+-- owner : "u<id>" AND the search terms, so FTS5 only walks the user's own rows
+-- instead of matching the whole index and filtering after a join.
+--
+-- The owner column is not in the base tables, so the indexes are contentless
+-- (content = '') and the triggers pass the indexed values themselves. A
+-- contentless row can only be removed with the exact values it was indexed with;
+-- team members are therefore always listed ordered by user id.
+--
+-- prefix = '1 2 3' also covers one-character typeahead ("r*"), which with
+-- prefix = '2 3' fell back to scanning every term of the index.
+
+drop trigger if exists task_fts_after_insert;
+drop trigger if exists task_fts_after_delete;
+drop trigger if exists task_fts_after_update;
+drop trigger if exists listtm_fts_after_insert;
+drop trigger if exists listtm_fts_after_delete;
+drop trigger if exists listtm_fts_after_update;
+drop trigger if exists team_fts_after_insert;
+drop trigger if exists team_fts_after_delete;
+drop trigger if exists team_fts_after_update;
+drop table if exists task_fts;
+drop table if exists listtm_fts;
+drop table if exists team_fts;
+
+create virtual table task_fts using fts5(
+    name, description, owner,
+    content = '',
+    tokenize = 'unicode61 remove_diacritics 2', prefix = '1 2 3'
+);
+
+create trigger task_fts_after_insert after insert on task begin
+    insert into task_fts (rowid, name, description, owner)
+    values (new.id, new.name, new.description, 'u' || new.user_id);
+end;
+
+create trigger task_fts_after_delete after delete on task begin
+    insert into task_fts (task_fts, rowid, name, description, owner)
+    values ('delete', old.id, old.name, old.description, 'u' || old.user_id);
+end;
+
+create trigger task_fts_after_update after update of name, description, user_id on task begin
+    insert into task_fts (task_fts, rowid, name, description, owner)
+    values ('delete', old.id, old.name, old.description, 'u' || old.user_id);
+    insert into task_fts (rowid, name, description, owner)
+    values (new.id, new.name, new.description, 'u' || new.user_id);
+end;
+
+create virtual table listtm_fts using fts5(
+    name, owner,
+    content = '',
+    tokenize = 'unicode61 remove_diacritics 2', prefix = '1 2 3'
+);
+
+create trigger listtm_fts_after_insert after insert on listtm begin
+    insert into listtm_fts (rowid, name, owner) values (new.id, new.name, 'u' || new.user_id);
+end;
+
+create trigger listtm_fts_after_delete after delete on listtm begin
+    insert into listtm_fts (listtm_fts, rowid, name, owner) values ('delete', old.id, old.name, 'u' || old.user_id);
+end;
+
+create trigger listtm_fts_after_update after update of name, user_id on listtm begin
+    insert into listtm_fts (listtm_fts, rowid, name, owner) values ('delete', old.id, old.name, 'u' || old.user_id);
+    insert into listtm_fts (rowid, name, owner) values (new.id, new.name, 'u' || new.user_id);
+end;
+
+-- A team row is indexed with its current members. Membership changes re-index the
+-- team: the BEFORE trigger removes it with the members it was indexed with, the
+-- AFTER trigger adds it back with the new ones.
+create virtual table team_fts using fts5(
+    name, owner,
+    content = '',
+    tokenize = 'unicode61 remove_diacritics 2', prefix = '1 2 3'
+);
+
+create trigger team_fts_after_insert after insert on team begin
+    insert into team_fts (rowid, name, owner)
+    values (new.id, new.name,
+            (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = new.id));
+end;
+
+create trigger team_fts_after_delete after delete on team begin
+    insert into team_fts (team_fts, rowid, name, owner)
+    values ('delete', old.id, old.name,
+            (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = old.id));
+end;
+
+create trigger team_fts_after_update after update of name on team begin
+    insert into team_fts (team_fts, rowid, name, owner)
+    values ('delete', old.id, old.name,
+            (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = old.id));
+    insert into team_fts (rowid, name, owner)
+    values (new.id, new.name,
+            (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = new.id));
+end;
+
+create trigger team_fts_before_member_insert before insert on team_member begin
+    insert into team_fts (team_fts, rowid, name, owner)
+    select 'delete', t.id, t.name,
+           (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = t.id)
+    from team t where t.id = new.team_id;
+end;
+
+create trigger team_fts_after_member_insert after insert on team_member begin
+    insert into team_fts (rowid, name, owner)
+    select t.id, t.name,
+           (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = t.id)
+    from team t where t.id = new.team_id;
+end;
+
+create trigger team_fts_before_member_delete before delete on team_member begin
+    insert into team_fts (team_fts, rowid, name, owner)
+    select 'delete', t.id, t.name,
+           (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = t.id)
+    from team t where t.id = old.team_id;
+end;
+
+create trigger team_fts_after_member_delete after delete on team_member begin
+    insert into team_fts (rowid, name, owner)
+    select t.id, t.name,
+           (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = t.id)
+    from team t where t.id = old.team_id;
+end;
+
+create trigger team_fts_before_member_update before update of team_id, user_id on team_member begin
+    insert into team_fts (team_fts, rowid, name, owner)
+    select 'delete', t.id, t.name,
+           (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = t.id)
+    from team t where t.id in (old.team_id, new.team_id);
+end;
+
+create trigger team_fts_after_member_update after update of team_id, user_id on team_member begin
+    insert into team_fts (rowid, name, owner)
+    select t.id, t.name,
+           (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = t.id)
+    from team t where t.id in (old.team_id, new.team_id);
+end;
+
+-- Index the rows that existed before this migration
+insert into task_fts (rowid, name, description, owner)
+select id, name, description, 'u' || user_id from task;
+
+insert into listtm_fts (rowid, name, owner)
+select id, name, 'u' || user_id from listtm;
+
+insert into team_fts (rowid, name, owner)
+select t.id, t.name,
+       (select group_concat('u' || m.user_id, ' ' order by m.user_id) from team_member m where m.team_id = t.id)
+from team t;
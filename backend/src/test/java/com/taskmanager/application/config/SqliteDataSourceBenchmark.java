@@ -0,0 +1,208 @@
+package com.taskmanager.application.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Mixed read/write throughput of one SQLite file with the plain Hikari pool of the
+ * default profile ("before") and with the WAL writer/reader pools of
+ * {@link SqliteDataSourceConfig} ("after"), plus the cost of hashing a password
+ * while holding the single writer. Plain JDBC, no application context.
+ *
+ * Not part of the regular build; run it with
+ * {@code ./mvnw test -Dtest=SqliteDataSourceBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SqliteDataSourceBenchmark {
+
+    private static final int THREADS = 16;
+    private static final Duration RUN_TIME = Duration.ofSeconds(10);
+    private static final int WRITE_PERCENT = 20;
+    private static final int SEED_ROWS = 10_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void mixedReadWriteThroughput() throws Exception {
+        Result before;
+        try (HikariDataSource pool = defaultPool(dir.resolve("before.db"))) {
+            seed(pool);
+            before = run(pool, pool, false);
+        }
+
+        Result after;
+        SqliteDataSourceConfig config = sqliteConfig(dir.resolve("after.db"));
+        TaskManagerSqliteProperties properties = new TaskManagerSqliteProperties();
+        try (HikariDataSource writer = config.sqliteWriterDataSource(properties);
+                HikariDataSource reader = config.sqliteReaderDataSource(properties, writer)) {
+            seed(writer);
+            after = run(reader, writer, false);
+        }
+
+        report("before: one pool of 10, rollback journal", before);
+        report("after:  WAL, 1 writer + " + properties.getReaderPoolSize() + " query_only readers", after);
+        assertEquals(0, after.errors(), "the split pools must not surface SQLITE_BUSY");
+    }
+
+    /**
+     * Every tenth write is a "login" that runs BCrypt: once inside the write
+     * transaction, once before opening it. The second run is how SessionService and
+     * AuthService work; the first is what they did before.
+     */
+    @Test
+    void passwordHashingInsideTheWriteTransaction() throws Exception {
+        SqliteDataSourceConfig config = sqliteConfig(dir.resolve("hashing.db"));
+        TaskManagerSqliteProperties properties = new TaskManagerSqliteProperties();
+        try (HikariDataSource writer = config.sqliteWriterDataSource(properties);
+                HikariDataSource reader = config.sqliteReaderDataSource(properties, writer)) {
+            seed(writer);
+            Result inside = run(reader, writer, true);
+            Result outside = run(reader, writer, false);
+            report("BCrypt inside the write transaction", inside);
+            report("BCrypt before the write transaction", outside);
+        }
+    }
+
+    private HikariDataSource defaultPool(Path file) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("sqlite-default");
+        config.setJdbcUrl("jdbc:sqlite:" + file);
+        config.setMaximumPoolSize(10);
+        config.setMinimumIdle(5);
+        return new HikariDataSource(config);
+    }
+
+    private SqliteDataSourceConfig sqliteConfig(Path file) {
+        SqliteDataSourceConfig config = new SqliteDataSourceConfig();
+        ReflectionTestUtils.setField(config, "url", "jdbc:sqlite:" + file);
+        return config;
+    }
+
+    private void seed(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table bench (id integer primary key, owner_id bigint, payload varchar(255))");
+            statement.execute("create index idx_bench_owner on bench (owner_id)");
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement("insert into bench (owner_id, payload) values (?, ?)")) {
+                for (int i = 0; i < SEED_ROWS; i++) {
+                    insert.setLong(1, i % 100);
+                    insert.setString(2, "row " + i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private Result run(DataSource readers, DataSource writer, boolean hashInsideWrite) throws Exception {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+        String hash = encoder.encode("benchmark");
+        AtomicLong reads = new AtomicLong();
+        AtomicLong writes = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + RUN_TIME.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    try {
+                        if (random.nextInt(100) < WRITE_PERCENT) {
+                            boolean login = random.nextInt(10) == 0;
+                            if (login && !hashInsideWrite) {
+                                encoder.matches("benchmark", hash);
+                            }
+                            write(writer, random, login && hashInsideWrite ? () -> encoder.matches("benchmark", hash) : null);
+                            writes.incrementAndGet();
+                        } else {
+                            read(readers, random);
+                            reads.incrementAndGet();
+                        }
+                    } catch (SQLException e) {
+                        errors.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        return new Result(reads.get(), writes.get(), errors.get());
+    }
+
+    private void read(DataSource dataSource, ThreadLocalRandom random) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement select = connection.prepareStatement(
+                        "select id, payload from bench where owner_id = ? order by id desc limit 20")) {
+            select.setLong(1, random.nextInt(100));
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    rows.getString(2);
+                }
+            }
+        }
+    }
+
+    private void write(DataSource dataSource, ThreadLocalRandom random, Runnable insideTransaction) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement("insert into bench (owner_id, payload) values (?, ?)");
+                    PreparedStatement update = connection.prepareStatement("update bench set payload = ? where id = ?")) {
+                insert.setLong(1, random.nextInt(100));
+                insert.setString(2, "new");
+                insert.executeUpdate();
+                if (insideTransaction != null) {
+                    insideTransaction.run();
+                }
+                update.setString(1, "updated");
+                update.setLong(2, 1 + random.nextInt(SEED_ROWS));
+                update.executeUpdate();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private void report(String label, Result result) {
+        double seconds = RUN_TIME.toMillis() / 1000.0;
+        System.out.printf("%-45s reads/s %8.0f  writes/s %7.0f  errors %d%n",
+                label, result.reads() / seconds, result.writes() / seconds, result.errors());
+    }
+
+    private record Result(long reads, long writes, long errors) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.taskmanager.application.respository;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Task search latency with the global FTS index of migration V5, filtered by owner
+ * after a join ("before"), and with the owner-scoped index of V9 ("after"), for
+ * one-, two- and three-character prefixes and whole words. Each query is the page
+ * of ids plus its count, as {@code TaskService#searchTasksForLoggedUser} runs them.
+ * Plain JDBC, no application context.
+ *
+ * Not part of the regular build; run it with
+ * {@code ./mvnw test -Dtest=FullTextSearchBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FullTextSearchBenchmark {
+
+    private static final int USERS = 200;
+    private static final int TASKS_PER_USER = 500;
+    private static final int QUERIES = 200;
+    private static final int PAGE_SIZE = 50;
+
+    private static final List<String> WORDS = List.of("report", "review", "release", "refactor", "meeting",
+            "migration", "invoice", "budget", "backlog", "deploy", "design", "document", "customer", "contract",
+            "planning", "roadmap", "research", "support", "testing", "training");
+
+    private static final List<String> QUERY_TERMS = List.of("r", "re", "rep", "report");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void ownerScopedSearch() throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dir.resolve("search.db"))) {
+            seed(connection);
+            for (String term : QUERY_TERMS) {
+                String match = FullTextSearchRepository.toMatchExpression(term);
+                double before = run(connection, "SELECT t.id FROM task_fts_global f JOIN task t ON t.id = f.rowid "
+                        + "WHERE task_fts_global MATCH ? AND t.user_id = ? "
+                        + "ORDER BY bm25(task_fts_global, 10.0, 1.0) LIMIT " + PAGE_SIZE,
+                        "SELECT COUNT(*) FROM task_fts_global f JOIN task t ON t.id = f.rowid "
+                        + "WHERE task_fts_global MATCH ? AND t.user_id = ?", userId -> match, true);
+                double after = run(connection, "SELECT rowid FROM task_fts_owned WHERE task_fts_owned MATCH ? "
+                        + "ORDER BY bm25(task_fts_owned, 10.0, 1.0, 0.0) LIMIT " + PAGE_SIZE,
+                        "SELECT COUNT(*) FROM task_fts_owned WHERE task_fts_owned MATCH ?",
+                        userId -> "owner : \"u" + userId + "\" AND {name description} : (" + match + ")", false);
+                System.out.printf("%-8s before %8.3f ms/search   after %8.3f ms/search%n", "\"" + term + "\"", before, after);
+            }
+        }
+    }
+
+    private void seed(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table task (id integer primary key, name varchar(255), description clob, user_id bigint)");
+            statement.execute("create virtual table task_fts_global using fts5(name, description, "
+                    + "content = 'task', content_rowid = 'id', "
+                    + "tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3')");
+            statement.execute("create virtual table task_fts_owned using fts5(name, description, owner, "
+                    + "content = '', tokenize = 'unicode61 remove_diacritics 2', prefix = '1 2 3')");
+        }
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into task (id, name, description, user_id) values (?, ?, ?, ?)");
+                PreparedStatement index = connection.prepareStatement(
+                        "insert into task_fts_owned (rowid, name, description, owner) values (?, ?, ?, ?)")) {
+            long id = 1;
+            for (int user = 1; user <= USERS; user++) {
+                for (int i = 0; i < TASKS_PER_USER; i++, id++) {
+                    String name = words(random, 3);
+                    String description = words(random, 12);
+                    insert.setLong(1, id);
+                    insert.setString(2, name);
+                    insert.setString(3, description);
+                    insert.setLong(4, user);
+                    insert.addBatch();
+                    index.setLong(1, id);
+                    index.setString(2, name);
+                    index.setString(3, description);
+                    index.setString(4, "u" + user);
+                    index.addBatch();
+                }
+            }
+            insert.executeBatch();
+            index.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("insert into task_fts_global (task_fts_global) values ('rebuild')");
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Average milliseconds for one page of ids plus its count, over {@link #QUERIES}
+     * random users.
+     */
+    private double run(Connection connection, String searchSql, String countSql,
+            LongFunction<String> matchFor, boolean bindUser) throws SQLException {
+        Random random = new Random(7);
+        long started = System.nanoTime();
+        try (PreparedStatement search = connection.prepareStatement(searchSql);
+                PreparedStatement count = connection.prepareStatement(countSql)) {
+            for (int q = 0; q < QUERIES; q++) {
+                long userId = 1 + random.nextInt(USERS);
+                for (PreparedStatement statement : List.of(search, count)) {
+                    statement.setString(1, matchFor.apply(userId));
+                    if (bindUser) {
+                        statement.setLong(2, userId);
+                    }
+                    try (ResultSet rows = statement.executeQuery()) {
+                        while (rows.next()) {
+                            rows.getLong(1);
+                        }
+                    }
+                }
+            }
+        }
+        return (System.nanoTime() - started) / 1_000_000.0 / QUERIES;
+    }
+}
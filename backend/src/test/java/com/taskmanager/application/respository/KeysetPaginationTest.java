@@ -0,0 +1,84 @@
+package com.taskmanager.application.respository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.taskmanager.application.model.dto.CursorPageDTO;
+import com.taskmanager.application.model.dto.TaskListItemDTO;
+import com.taskmanager.application.model.entities.PriorityTask;
+import com.taskmanager.application.model.entities.StateTask;
+import com.taskmanager.application.model.entities.Task;
+import com.taskmanager.application.model.entities.User;
+
+/**
+ * Walking a keyset listing cursor by cursor must return every row once, including
+ * rows whose date is null, exactly as TaskService and the controller do it.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class KeysetPaginationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void walksDatedAndUndatedTasks() {
+        User owner = new User();
+        owner.setUsername("owner");
+        owner.setEmail("owner@example.com");
+        entityManager.persist(owner);
+
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            Task task = new Task();
+            task.setNameOfTask("task " + i);
+            task.setDescriptionOfTask("description");
+            task.setState(StateTask.NEW);
+            task.setPriority(PriorityTask.MEDIUM);
+            // Every third task is undated, and a few share the same date
+            task.setCreationDate(i % 3 == 0 ? null : new Date((i / 2) * 1000L));
+            task.setUser(owner);
+            expected.add(entityManager.persist(task).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> walked = new ArrayList<>();
+        Pageable pageable = PageRequest.of(0, 4);
+        CursorPageDTO<TaskListItemDTO> page = CursorPageDTO.from(
+                taskRepository.findFirstListItemSliceByUserId(owner.getId(), pageable), this::cursorOf);
+        page.getContent().forEach(task -> walked.add(task.getId()));
+        while (page.getNextCursor() != null) {
+            CursorPageDTO.Cursor cursor = CursorPageDTO.Cursor.decode(page.getNextCursor());
+            Slice<TaskListItemDTO> slice = cursor.date() == null
+                    ? taskRepository.findListItemSliceByUserIdAfterNullDate(owner.getId(), cursor.id(), pageable)
+                    : taskRepository.findListItemSliceByUserIdAfter(owner.getId(), cursor.date(), cursor.id(), pageable);
+            page = CursorPageDTO.from(slice, this::cursorOf);
+            page.getContent().forEach(task -> walked.add(task.getId()));
+        }
+
+        assertEquals(expected.size(), walked.size());
+        assertEquals(expected.stream().sorted().toList(), walked.stream().sorted().toList());
+    }
+
+    private CursorPageDTO.Cursor cursorOf(TaskListItemDTO task) {
+        return new CursorPageDTO.Cursor(task.getCreationDate(), task.getId());
+    }
+}
@@ -0,0 +1,210 @@
+package com.taskmanager.application.respository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.taskmanager.application.model.dto.ActionTaskDTO;
+import com.taskmanager.application.model.dto.ListTMDTO;
+import com.taskmanager.application.model.dto.TaskAssignmentHistoryDTO;
+import com.taskmanager.application.model.dto.TeamDTO;
+import com.taskmanager.application.model.entities.ActionTask;
+import com.taskmanager.application.model.entities.ActionType;
+import com.taskmanager.application.model.entities.ListTM;
+import com.taskmanager.application.model.entities.PriorityTask;
+import com.taskmanager.application.model.entities.StateTask;
+import com.taskmanager.application.model.entities.Task;
+import com.taskmanager.application.model.entities.TaskAssignmentHistory;
+import com.taskmanager.application.model.entities.Team;
+import com.taskmanager.application.model.entities.TeamMember;
+import com.taskmanager.application.model.entities.TeamRole;
+import com.taskmanager.application.model.entities.User;
+
+/**
+ * Every listing must cost the same number of statements whatever the page size:
+ * a page of 50 that needs more statements than a page of 5 is loading something
+ * row by row. Each listing is read and mapped to the DTOs the services return,
+ * with an empty persistence context.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class ListingQueryCountTest {
+
+    private static final int ROWS = 60;
+    private static final int SMALL_PAGE = 5;
+    private static final int LARGE_PAGE = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ListRepository listRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private ActionTaskRepository actionTaskRepository;
+
+    @Autowired
+    private TaskAssignmentHistoryRepository assignmentHistoryRepository;
+
+    private Statistics statistics;
+
+    private User owner;
+    private Team team;
+    private Task taskWithActions;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        owner = user("owner");
+        User member = user("member");
+
+        team = new Team();
+        team.setName("team");
+        team.setCreationDate(new Date());
+        team.addMember(teamMember(owner, TeamRole.ADMIN));
+        team.addMember(teamMember(member, TeamRole.MEMBER));
+        entityManager.persist(team);
+
+        for (int i = 0; i < ROWS; i++) {
+            Team other = new Team();
+            other.setName("other " + i);
+            other.setCreationDate(new Date());
+            other.addMember(teamMember(owner, TeamRole.ADMIN));
+            entityManager.persist(other);
+
+            ListTM list = new ListTM();
+            list.setNameOfList("list " + i);
+            list.setDescriptionOfList("description");
+            list.setColor("#ffffff");
+            list.setUser(owner);
+            entityManager.persist(list);
+
+            Task task = new Task();
+            task.setNameOfTask("task " + i);
+            task.setDescriptionOfTask("description");
+            task.setState(i % 2 == 0 ? StateTask.COMPLETED : StateTask.NEW);
+            task.setPriority(PriorityTask.MEDIUM);
+            task.setCreationDate(new Date(i * 1000L));
+            task.setUser(owner);
+            task.setList(list);
+            task.setTeam(team);
+            entityManager.persist(task);
+            if (taskWithActions == null) {
+                taskWithActions = task;
+            }
+
+            ActionTask action = new ActionTask();
+            action.setActionName("action " + i);
+            action.setActionType(ActionType.COMMENT);
+            action.setUser(owner.getUsername());
+            action.setActionDate(new Date(i * 1000L));
+            action.setTask(taskWithActions);
+            entityManager.persist(action);
+
+            TaskAssignmentHistory history = new TaskAssignmentHistory();
+            history.setTask(task);
+            history.setFromUser(owner);
+            history.setToUser(member);
+            history.setChangedBy(owner);
+            history.setTeam(team);
+            history.setChangedDate(new Date(i * 1000L));
+            entityManager.persist(history);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void taskListingsDoNotDependOnPageSize() {
+        assertConstant(page -> taskRepository.findListItemsByUserId(owner.getId(), page).getContent());
+        assertConstant(page -> taskRepository.findFirstListItemSliceByUserId(owner.getId(), page).getContent());
+        assertConstant(page -> taskRepository.findSummariesByUserId(owner.getId(), page).getContent());
+        assertConstant(page -> taskRepository.findTeamListItems(team.getId(), null, null, null, page).getContent());
+    }
+
+    @Test
+    void listListingDoesNotDependOnPageSize() {
+        assertConstant(page -> listRepository.findAllByUser(owner, page)
+                .map(list -> ListTMDTO.fromEntity(list, false)).getContent());
+    }
+
+    @Test
+    void teamListingDoesNotDependOnPageSize() {
+        assertConstant(page -> teamRepository.findAllByMemberUser(owner, page)
+                .map(t -> TeamDTO.fromEntity(t, false)).getContent());
+    }
+
+    @Test
+    void actionListingsDoNotDependOnPageSize() {
+        assertConstant(page -> actionTaskRepository.findAllByTask(taskWithActions, page)
+                .map(ActionTaskDTO::fromEntity).getContent());
+        assertConstant(page -> actionTaskRepository.findFirstSliceByTask(taskWithActions, page)
+                .map(ActionTaskDTO::fromEntity).getContent());
+    }
+
+    @Test
+    void assignmentHistoryListingsDoNotDependOnPageSize() {
+        assertConstant(page -> assignmentHistoryRepository.findAllByTeamOrderByChangedDateDesc(team, page)
+                .map(TaskAssignmentHistoryDTO::fromEntity).getContent());
+        assertConstant(page -> {
+            Slice<TaskAssignmentHistory> slice = assignmentHistoryRepository.findFirstSliceByTeam(team, page);
+            return slice.map(TaskAssignmentHistoryDTO::fromEntity).getContent();
+        });
+    }
+
+    private void assertConstant(Function<Pageable, List<?>> listing) {
+        long small = statements(listing, SMALL_PAGE);
+        long large = statements(listing, LARGE_PAGE);
+        assertEquals(small, large, "statements for a page of " + SMALL_PAGE + " and a page of " + LARGE_PAGE);
+    }
+
+    private long statements(Function<Pageable, List<?>> listing, int size) {
+        entityManager.clear();
+        statistics.clear();
+        List<?> content = listing.apply(PageRequest.of(0, size));
+        assertEquals(size, content.size());
+        long count = statistics.getPrepareStatementCount();
+        assertTrue(count > 0);
+        return count;
+    }
+
+    private User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setCreationDate(new Date());
+        return entityManager.persist(user);
+    }
+
+    private TeamMember teamMember(User user, TeamRole role) {
+        TeamMember member = new TeamMember();
+        member.setUser(user);
+        member.setRole(role);
+        member.setJoinedDate(new Date());
+        return member;
+    }
+}
@@ -0,0 +1,176 @@
+package com.taskmanager.application.respository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.taskmanager.application.model.dto.TeamMemberDTO;
+import com.taskmanager.application.model.entities.PriorityTask;
+import com.taskmanager.application.model.entities.StateTask;
+import com.taskmanager.application.model.entities.Task;
+import com.taskmanager.application.model.entities.Team;
+import com.taskmanager.application.model.entities.TeamMember;
+import com.taskmanager.application.model.entities.TeamRole;
+import com.taskmanager.application.model.entities.User;
+
+/**
+ * Statements and time for the team dashboard with teams of 10, 100 and 1,000
+ * members. "Before" is the original dashboard: walking {@code team.getMembers()}
+ * with one pending-task count per member, then the team total and four per-state
+ * counts. Those repository methods are gone, so their JPQL runs through the entity
+ * manager. "After" is the current one: the grouped count of
+ * {@link TaskRepository#countByTeamGroupedByUserAndState(Long)} and the member/user
+ * join of {@link TeamMemberRepository#findMemberDTOsByTeamId(Long)}. Every member
+ * owns ten tasks.
+ *
+ * Not part of the regular build; run it with
+ * {@code ./mvnw test -Dtest=TeamDashboardBenchmark -Dbenchmark=true}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TeamDashboardBenchmark {
+
+    private static final List<Integer> TEAM_SIZES = List.of(10, 100, 1_000);
+    private static final int TASKS_PER_MEMBER = 10;
+    private static final int RUNS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void dashboardMembers() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        for (int size : TEAM_SIZES) {
+            Long teamId = seedTeam(size);
+
+            Result before = measure(statistics, () -> {
+                Team team = teamRepository.findById(teamId).orElseThrow();
+                List<TeamMemberDTO> members = team.getMembers().stream().map(member -> {
+                    TeamMemberDTO dto = TeamMemberDTO.fromEntity(member);
+                    dto.setPendingTasks(countPendingByTeamAndUser(team, member.getUser()));
+                    return dto;
+                }).toList();
+                countByTeam(team, null);
+                for (StateTask state : List.of(StateTask.COMPLETED, StateTask.IN_PROGRESS, StateTask.NEW,
+                        StateTask.PAUSSED)) {
+                    countByTeam(team, state);
+                }
+                return members;
+            });
+            Result after = measure(statistics, () -> {
+                teamRepository.findById(teamId).orElseThrow();
+                taskRepository.countByTeamGroupedByUserAndState(teamId);
+                return teamMemberRepository.findMemberDTOsByTeamId(teamId);
+            });
+
+            System.out.printf("%5d members  before %5d statements %8.2f ms   after %5d statements %8.2f ms%n",
+                    size, before.statements(), before.millis(), after.statements(), after.millis());
+        }
+    }
+
+    private long countPendingByTeamAndUser(Team team, User user) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(t) FROM Task t WHERE t.team = :team AND t.user = :user "
+                        + "AND t.state NOT IN (:excludedStates)", Long.class)
+                .setParameter("team", team)
+                .setParameter("user", user)
+                .setParameter("excludedStates", List.of(StateTask.COMPLETED, StateTask.CANCELLED))
+                .getSingleResult();
+    }
+
+    /**
+     * The removed {@code countByTeam} and, with a state, {@code countByTeamAndState}.
+     */
+    private long countByTeam(Team team, StateTask state) {
+        if (state == null) {
+            return entityManager.getEntityManager()
+                    .createQuery("SELECT COUNT(t) FROM Task t WHERE t.team = :team", Long.class)
+                    .setParameter("team", team)
+                    .getSingleResult();
+        }
+        return entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(t) FROM Task t WHERE t.team = :team AND t.state = :state", Long.class)
+                .setParameter("team", team)
+                .setParameter("state", state)
+                .getSingleResult();
+    }
+
+    private Long seedTeam(int size) {
+        Team team = new Team();
+        team.setName("team of " + size);
+        team.setCreationDate(new Date());
+        for (int i = 0; i < size; i++) {
+            User user = new User();
+            user.setUsername("user-" + size + "-" + i);
+            user.setEmail("user-" + size + "-" + i + "@example.com");
+            entityManager.persist(user);
+
+            TeamMember member = new TeamMember();
+            member.setUser(user);
+            member.setRole(i == 0 ? TeamRole.ADMIN : TeamRole.MEMBER);
+            member.setJoinedDate(new Date());
+            team.addMember(member);
+        }
+        entityManager.persist(team);
+
+        StateTask[] states = StateTask.values();
+        for (TeamMember member : team.getMembers()) {
+            for (int i = 0; i < TASKS_PER_MEMBER; i++) {
+                Task task = new Task();
+                task.setNameOfTask("task " + i);
+                task.setDescriptionOfTask("description");
+                task.setState(states[i % states.length]);
+                task.setPriority(PriorityTask.MEDIUM);
+                task.setCreationDate(new Date());
+                task.setUser(member.getUser());
+                task.setTeam(team);
+                entityManager.persist(task);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return team.getId();
+    }
+
+    private Result measure(Statistics statistics, Supplier<List<TeamMemberDTO>> dashboard) {
+        long statements = 0;
+        long started = 0;
+        for (int run = 0; run <= RUNS; run++) {
+            // The first run warms up and is not counted
+            if (run == 1) {
+                started = System.nanoTime();
+            }
+            entityManager.clear();
+            statistics.clear();
+            dashboard.get();
+            statements = statistics.getPrepareStatementCount();
+        }
+        return new Result(statements, (System.nanoTime() - started) / 1_000_000.0 / RUNS);
+    }
+
+    private record Result(long statements, double millis) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanager.application.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.taskmanager.application.service.JWTUtilityService;
+
+/**
+ * Tokens issued before key ids were written to the header must keep verifying
+ * after the active key changes type, as long as the old key is still listed.
+ */
+class JWTKeyRingTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void verifiesLegacyRs256TokenWithoutKidAfterSwitchingToEc() throws Exception {
+        KeyPair oldRsa = JwtTestKeys.rsa();
+        JWTUtilityService jwtUtilityService = jwtUtilityService(
+                JwtTestKeys.keyRing(dir, JwtTestKeys.ec(), oldRsa.getPublic()));
+
+        JWTClaimsSet claims = jwtUtilityService.parseJWT(legacyToken(oldRsa));
+
+        assertEquals("legacy-user", claims.getSubject());
+    }
+
+    @Test
+    void rejectsTokenWithoutKidWhenNoKeyOfItsAlgorithmIsListed() throws Exception {
+        JWTUtilityService jwtUtilityService = jwtUtilityService(JwtTestKeys.keyRing(dir, JwtTestKeys.ec()));
+
+        assertThrows(JOSEException.class, () -> jwtUtilityService.parseJWT(legacyToken(JwtTestKeys.rsa())));
+    }
+
+    @Test
+    void rejectsTokenWithoutKidSignedByAnUnlistedKey() throws Exception {
+        JWTUtilityService jwtUtilityService = jwtUtilityService(
+                JwtTestKeys.keyRing(dir, JwtTestKeys.ec(), JwtTestKeys.rsa().getPublic()));
+
+        assertThrows(JOSEException.class, () -> jwtUtilityService.parseJWT(legacyToken(JwtTestKeys.rsa())));
+    }
+
+    /**
+     * An access token as they were issued before key ids: RS256, no {@code kid}.
+     */
+    private String legacyToken(KeyPair rsa) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("legacy-user")
+                .claim("sid", "legacy-session")
+                .claim("type", "access")
+                .issueTime(new Date())
+                .expirationTime(new Date(System.currentTimeMillis() + 60_000))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        jwt.sign(new RSASSASigner(rsa.getPrivate()));
+        return jwt.serialize();
+    }
+
+    private JWTUtilityService jwtUtilityService(JWTKeyRing keyRing) {
+        JWTUtilityService jwtUtilityService = new JWTUtilityService();
+        ReflectionTestUtils.setField(jwtUtilityService, "keyRing", keyRing);
+        return jwtUtilityService;
+    }
+}
@@ -0,0 +1,99 @@
+package com.taskmanager.application.security;
+
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.taskmanager.application.service.JWTUtilityService;
+
+/**
+ * Signing and verification throughput and serialized access-token length for each
+ * supported key type (RS256 with RSA-2048, ES256 with P-256, EdDSA with Ed25519).
+ * Each key is loaded into a {@link JWTKeyRing}; tokens carry the same header and
+ * claims as {@link JWTUtilityService#generateAccessToken} writes and are verified
+ * through {@link JWTUtilityService#parseJWT(String)}. Single thread.
+ *
+ * Not part of the regular build; run it with
+ * {@code ./mvnw test -Dtest=JwtAlgorithmBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtAlgorithmBenchmark {
+
+    private static final Duration WARM_UP = Duration.ofSeconds(2);
+    private static final Duration RUN_TIME = Duration.ofSeconds(5);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void signAndVerify() throws Exception {
+        Map<String, KeyPair> keys = new LinkedHashMap<>();
+        keys.put("RS256 ", JwtTestKeys.rsa());
+        keys.put("ES256 ", JwtTestKeys.ec());
+        keys.put("EdDSA ", JwtTestKeys.ed25519());
+
+        for (Map.Entry<String, KeyPair> entry : keys.entrySet()) {
+            JWTKeyRing keyRing = JwtTestKeys.keyRing(dir, entry.getValue());
+            JWTUtilityService jwtUtilityService = new JWTUtilityService();
+            ReflectionTestUtils.setField(jwtUtilityService, "keyRing", keyRing);
+            String token = sign(keyRing);
+
+            Operation signing = () -> sign(keyRing);
+            Operation verifying = () -> jwtUtilityService.parseJWT(token);
+            opsPerSecond(signing, WARM_UP);
+            opsPerSecond(verifying, WARM_UP);
+
+            System.out.printf("%s %10.0f signs/s %10.0f verifies/s %6d chars%n", entry.getKey(),
+                    opsPerSecond(signing, RUN_TIME), opsPerSecond(verifying, RUN_TIME), token.length());
+        }
+    }
+
+    private String sign(JWTKeyRing keyRing) throws JOSEException {
+        JWTKeyRing.SigningKey signingKey = keyRing.getActiveKey();
+        Date now = new Date();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("benchmark-user")
+                .claim("sid", "6f1c2b9e-3d4a-4f5e-8a7b-9c0d1e2f3a4b")
+                .claim("type", "access")
+                .claim("uid", 123456L)
+                .claim("auth", List.of("ROLE_USER"))
+                .issueTime(now)
+                .expirationTime(new Date(now.getTime() + 900_000))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(signingKey.algorithm()).keyID(signingKey.keyId()).build(),
+                claims);
+        jwt.sign(signingKey.signer());
+        return jwt.serialize();
+    }
+
+    private double opsPerSecond(Operation operation, Duration duration) throws Exception {
+        long operations = 0;
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        long now;
+        do {
+            operation.run();
+            operations++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        return operations / ((now - started) / 1_000_000_000.0);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run() throws Exception;
+    }
+}
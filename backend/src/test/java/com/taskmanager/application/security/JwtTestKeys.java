@@ -0,0 +1,74 @@
+package com.taskmanager.application.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Key pairs of every supported type and {@link JWTKeyRing}s built from them
+ * through PEM files, the way the application loads its keys.
+ */
+final class JwtTestKeys {
+
+    private JwtTestKeys() {
+    }
+
+    static KeyPair rsa() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    static KeyPair ec() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    static KeyPair ed25519() throws GeneralSecurityException {
+        return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    }
+
+    /**
+     * A loaded ring that signs with {@code active} and also verifies with
+     * {@code additional}.
+     */
+    static JWTKeyRing keyRing(Path dir, KeyPair active, PublicKey... additional) throws IOException {
+        Path privateKey = writePem(Files.createTempFile(dir, "private", ".pem"), "PRIVATE KEY",
+                active.getPrivate().getEncoded());
+        Path publicKey = writePem(Files.createTempFile(dir, "public", ".pem"), "PUBLIC KEY",
+                active.getPublic().getEncoded());
+        List<String> additionalPaths = new ArrayList<>();
+        for (PublicKey key : additional) {
+            additionalPaths.add("file:" + writePem(Files.createTempFile(dir, "additional", ".pem"), "PUBLIC KEY",
+                    key.getEncoded()));
+        }
+
+        JWTKeyRing keyRing = new JWTKeyRing();
+        ReflectionTestUtils.setField(keyRing, "privateKeyResource", new FileSystemResource(privateKey));
+        ReflectionTestUtils.setField(keyRing, "publicKeyResource", new FileSystemResource(publicKey));
+        ReflectionTestUtils.setField(keyRing, "additionalPublicKeyPaths", String.join(",", additionalPaths));
+        ReflectionTestUtils.setField(keyRing, "resourceLoader", new DefaultResourceLoader());
+        keyRing.init();
+        return keyRing;
+    }
+
+    private static Path writePem(Path file, String type, byte[] encoded) throws IOException {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(encoded);
+        Files.writeString(file, "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n");
+        return file;
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskmanager.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.taskmanager.application.config.TaskManagerSqliteProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * A caller only gets 503 from the write queue when its write never ran, so a
+ * client retrying after the 503 cannot write twice.
+ */
+class SqliteWriteQueueTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+    private SqliteWriteQueue writeQueue;
+
+    @BeforeEach
+    void startQueue() {
+        TaskManagerSqliteProperties properties = new TaskManagerSqliteProperties();
+        properties.getWriteQueue().setEnabled(true);
+        properties.getWriteQueue().setTimeout(TIMEOUT);
+
+        writeQueue = new SqliteWriteQueue();
+        ReflectionTestUtils.setField(writeQueue, "sqliteProperties", properties);
+        ReflectionTestUtils.setField(writeQueue, "transactionTemplate", new TransactionTemplate(new NoOpTransactionManager()));
+        ReflectionTestUtils.setField(writeQueue, "meterRegistry", new SimpleMeterRegistry());
+        writeQueue.start();
+    }
+
+    @AfterEach
+    void stopQueue() {
+        writeQueue.stop();
+    }
+
+    @Test
+    void waitsForAWriteThatStartedBeforeTheTimeout() throws Throwable {
+        AtomicInteger runs = new AtomicInteger();
+
+        Object result = writeQueue.submit(() -> {
+            Thread.sleep(TIMEOUT.toMillis() * 3);
+            runs.incrementAndGet();
+            return "created";
+        });
+
+        assertEquals("created", result);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void dropsAWriteThatDidNotStartBeforeTheTimeout() throws Throwable {
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> blocking = CompletableFuture.supplyAsync(() -> {
+            try {
+                return writeQueue.submit(() -> {
+                    writerBusy.countDown();
+                    return release.await(10, TimeUnit.SECONDS);
+                });
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(writerBusy.await(5, TimeUnit.SECONDS));
+
+        AtomicInteger runs = new AtomicInteger();
+        ResponseStatusException rejected = assertThrows(ResponseStatusException.class,
+                () -> writeQueue.submit(runs::incrementAndGet));
+        release.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+        // Anything still queued has had its turn once a later write has run
+        writeQueue.submit(() -> null);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatusCode());
+        assertEquals(0, runs.get());
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
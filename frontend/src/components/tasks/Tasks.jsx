@@ -11,6 +11,7 @@ import {
 import { ErrorBoundary } from "react-error-boundary";
 import { useLocation, useNavigate } from "react-router-dom";
 import { useTheme } from "../../context/ThemeContext";
+import taskService from "../../services/taskService";
 import { errorToast } from "../common/Noty";
 import NewEditTask from "./NewEditTask";
 import TasksList from "./TasksList";
@@ -40,6 +41,17 @@ const Tasks = () => {
     errorToast("Error: " + error.message);
   };
 
+  // List rows only carry a description preview, so the form is filled from the full task
+  const handleEditTask = async (task) => {
+    try {
+      const fullTask = await taskService.getTaskById(task.id);
+      setFormEditData(fullTask);
+      setshowEditTask(true);
+    } catch (error) {
+      errorToast("Error loading task details");
+    }
+  };
+
   return (
     <Container fluid className="px-3 px-lg-4 py-4 pb-5">
       <Row className="align-items-center g-3 mb-4">
@@ -115,10 +127,7 @@ const Tasks = () => {
       >
         <TasksList
           handleOpenTask={(id) => navigateTo(`${location.pathname}/${id}`)}
-          handleEditTask={(task) => {
-            setFormEditData(task);
-            setshowEditTask(true);
-          }}
+          handleEditTask={handleEditTask}
           refreshTasks={refreshTasks}
           refreshKey={refreshKey}
           searchTerm={activeSearchTerm}
@@ -131,7 +131,7 @@ const TasksList = ({
                   </Badge>
                 </div>
                 <p className="text-body-secondary mb-0">
-                  {task.descriptionOfTask || (
+                  {task.descriptionPreview || (
                     <span className="fst-italic">No description</span>
                   )}
                 </p>
@@ -1,6 +1,7 @@
 #!/usr/bin/env python3
 """
-Script para generar claves RSA private_key.pem y public_key.pem
+Script para generar claves private_key.pem y public_key.pem para firmar los JWT
+(RSA/RS256, EC P-256/ES256 o Ed25519/EdDSA)
 Basado en la estructura de compile.py del proyecto task-manager
 """
 
@@ -17,9 +18,10 @@ logging.basicConfig(level=logging.INFO, format='%(asctime)s - %(levelname)s - %(
 logger = logging.getLogger(__name__)
 
 class KeyGenerator:
-    def __init__(self, project_root, key_size=2048, output_dir="keys"):
+    def __init__(self, project_root, key_size=2048, output_dir="keys", algorithm="rsa"):
         self.project_root = Path(project_root).resolve()
         self.key_size = key_size
+        self.algorithm = algorithm
         self.output_dir = self.project_root / output_dir
         self.private_key_path = self.output_dir / "private_key.pem"
         self.public_key_path = self.output_dir / "public_key.pem"
@@ -52,10 +54,19 @@ class KeyGenerator:
             logger.info(f"El directorio ya existe: {self.output_dir}")
 
     def generate_private_key(self):
-        """Genera la clave privada RSA."""
-        logger.info(f"Generando clave privada RSA de {self.key_size} bits...")
+        """Genera la clave privada (PKCS#8) del algoritmo seleccionado."""
+        if self.algorithm == 'es256':
+            logger.info("Generando clave privada EC P-256 (ES256)...")
+            cmd = ['openssl', 'genpkey', '-algorithm', 'EC', '-pkeyopt', 'ec_paramgen_curve:P-256',
+                   '-out', str(self.private_key_path)]
+        elif self.algorithm == 'ed25519':
+            logger.info("Generando clave privada Ed25519 (EdDSA)...")
+            cmd = ['openssl', 'genpkey', '-algorithm', 'ED25519', '-out', str(self.private_key_path)]
+        else:
+            logger.info(f"Generando clave privada RSA de {self.key_size} bits...")
+            cmd = ['openssl', 'genpkey', '-algorithm', 'RSA', '-pkeyopt', f'rsa_keygen_bits:{self.key_size}',
+                   '-out', str(self.private_key_path)]
         try:
-            cmd = ['openssl', 'genrsa', '-out', str(self.private_key_path), str(self.key_size)]
             subprocess.run(cmd, check=True, stdout=subprocess.PIPE, stderr=subprocess.PIPE)
             logger.info(f"Clave privada generada: {self.private_key_path}")
         except subprocess.CalledProcessError as e:
@@ -66,7 +77,7 @@ class KeyGenerator:
         """Genera la clave pública desde la clave privada."""
         logger.info("Generando clave pública...")
         try:
-            cmd = ['openssl', 'rsa', '-in', str(self.private_key_path), 
+            cmd = ['openssl', 'pkey', '-in', str(self.private_key_path),
                    '-pubout', '-out', str(self.public_key_path)]
             subprocess.run(cmd, check=True, stdout=subprocess.PIPE, stderr=subprocess.PIPE)
             logger.info(f"Clave pública generada: {self.public_key_path}")
@@ -79,18 +90,18 @@ class KeyGenerator:
         logger.info("Verificando claves generadas...")
         try:
             # Verificar clave privada
-            cmd_private = ['openssl', 'rsa', '-in', str(self.private_key_path), '-check', '-noout']
+            cmd_private = ['openssl', 'pkey', '-in', str(self.private_key_path), '-noout']
             subprocess.run(cmd_private, check=True, stdout=subprocess.PIPE, stderr=subprocess.PIPE)
             logger.info("✓ Clave privada verificada correctamente")
 
             # Verificar clave pública
-            cmd_public = ['openssl', 'rsa', '-pubin', '-in', str(self.public_key_path), '-text', '-noout']
+            cmd_public = ['openssl', 'pkey', '-pubin', '-in', str(self.public_key_path), '-text', '-noout']
             subprocess.run(cmd_public, check=True, stdout=subprocess.PIPE, stderr=subprocess.PIPE)
             logger.info("✓ Clave pública verificada correctamente")
 
             # Verificar que las claves coinciden
-            cmd_private_hash = ['openssl', 'rsa', '-in', str(self.private_key_path), '-pubout']
-            cmd_public_hash = ['openssl', 'rsa', '-pubin', '-in', str(self.public_key_path)]
+            cmd_private_hash = ['openssl', 'pkey', '-in', str(self.private_key_path), '-pubout']
+            cmd_public_hash = ['openssl', 'pkey', '-pubin', '-in', str(self.public_key_path)]
             
             result_private = subprocess.run(cmd_private_hash, capture_output=True, text=True)
             result_public = subprocess.run(cmd_public_hash, capture_output=True, text=True)
@@ -124,7 +135,9 @@ class KeyGenerator:
         logger.info(f"   📁 Directorio: {self.output_dir}")
         logger.info(f"   🔐 Clave privada: {self.private_key_path}")
         logger.info(f"   🔑 Clave pública: {self.public_key_path}")
-        logger.info(f"   🔢 Tamaño de clave: {self.key_size} bits")
+        logger.info(f"   🧮 Algoritmo: {self.algorithm}")
+        if self.algorithm == 'rsa':
+            logger.info(f"   🔢 Tamaño de clave: {self.key_size} bits")
         
         # Mostrar tamaños de archivo
         if self.private_key_path.exists():
@@ -159,7 +172,7 @@ class KeyGenerator:
 
     def generate_keys(self, backup=True):
         """Proceso completo de generación de claves."""
-        logger.info("🔐 Iniciando generación de claves RSA...")
+        logger.info(f"🔐 Iniciando generación de claves ({self.algorithm})...")
         logger.info("=" * 50)
         
         self.check_dependencies()
@@ -204,7 +217,7 @@ jwt.issuer=task-manager-app
 
 
 def main():
-    parser = argparse.ArgumentParser(description='Generador de claves RSA para Task Manager')
+    parser = argparse.ArgumentParser(description='Generador de claves JWT para Task Manager')
     parser.add_argument('--key-size', type=int, choices=[1024, 2048, 4096], default=2048,
                        help='Tamaño de la clave RSA (bits)')
     parser.add_argument('--output-dir', default='keys',
@@ -213,8 +226,8 @@ def main():
                        help='No crear backup de claves existentes')
     parser.add_argument('--spring-config', action='store_true',
                        help='Generar configuración para Spring Boot')
-    parser.add_argument('--algorithm', choices=['rsa', 'ed25519'], default='rsa',
-                       help='Algoritmo de clave a usar')
+    parser.add_argument('--algorithm', choices=['rsa', 'es256', 'ed25519'], default='rsa',
+                       help='Algoritmo de clave a usar (rsa=RS256, es256=ES256, ed25519=EdDSA)')
 
     args = parser.parse_args()
 
@@ -230,7 +243,8 @@ def main():
     key_generator = KeyGenerator(
         project_root=project_root,
         key_size=args.key_size,
-        output_dir=args.output_dir
+        output_dir=args.output_dir,
+        algorithm=args.algorithm
     )
 
     try: